@@ -17,17 +17,15 @@ package org.fest.util;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Array;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collection;
+import java.util.List;
 
-import static java.lang.reflect.Array.getLength;
 import static org.fest.util.Arrays.isArray;
-import static org.fest.util.Sets.newHashSet;
 import static org.fest.util.ToString.toStringOf;
 
 /**
- * Creates a {@code String} representation of an array.
+ * Creates a {@code String} representation of an array. {@code Object} arrays, and the arrays and {@code Collection}s
+ * nested in them, are formatted by an {@link ObjectGraphWalker}, so nesting of any depth can be formatted.
  *
  * @author Alex Ruiz
  * @author Joel Costigliola
@@ -42,6 +40,85 @@ final class ArrayFormatter {
     return isObjectArray(o) ? formatObjectArray(o) : formatPrimitiveArray(o);
   }
 
+  /**
+   * Appends the {@code String} representation of the elements of the given array, from index {@code from}
+   * (inclusive) to index {@code to} (exclusive), separated by {@code ", "} and without the enclosing brackets. Joining
+   * the output of contiguous ranges with {@code ", "} produces the same representation as {@link #format(Object)}.
+   *
+   * @param array  the array to format. It must not be {@code null}.
+   * @param from   the index of the first element to format.
+   * @param to     the index after the last element to format.
+   * @param buffer where to append the representation of the elements.
+   * @throws IllegalArgumentException if the given object is not an array.
+   */
+  void appendElements(@NotNull Object array, int from, int to, @NotNull StringBuilder buffer) {
+    if (array instanceof Object[]) {
+      new ObjectGraphWalker().walkElements((Object[]) array, from, to, new ContainerFormatter(buffer));
+      return;
+    }
+    if (array instanceof int[]) {
+      appendElements((int[]) array, from, to, buffer);
+      return;
+    }
+    if (array instanceof long[]) {
+      appendElements((long[]) array, from, to, buffer);
+      return;
+    }
+    if (array instanceof double[]) {
+      appendElements((double[]) array, from, to, buffer);
+      return;
+    }
+    if (array instanceof float[]) {
+      appendElements((float[]) array, from, to, buffer);
+      return;
+    }
+    if (array instanceof byte[]) {
+      appendElements((byte[]) array, from, to, buffer);
+      return;
+    }
+    if (array instanceof short[]) {
+      appendElements((short[]) array, from, to, buffer);
+      return;
+    }
+    if (array instanceof char[]) {
+      appendElements((char[]) array, from, to, buffer);
+      return;
+    }
+    if (array instanceof boolean[]) {
+      appendElements((boolean[]) array, from, to, buffer);
+      return;
+    }
+    String msg = String.format("<%s> is not an array", array);
+    throw new IllegalArgumentException(msg);
+  }
+
+  /**
+   * Appends the {@code String} representation of the elements of the given list, from index {@code from} (inclusive)
+   * to index {@code to} (exclusive), separated by {@code ", "} and without the enclosing brackets. Joining the output
+   * of contiguous ranges with {@code ", "} produces the same representation as {@link #formatCollection(Collection)}.
+   *
+   * @param list   the list to format.
+   * @param from   the index of the first element to format.
+   * @param to     the index after the last element to format.
+   * @param buffer where to append the representation of the elements.
+   */
+  void appendElements(@NotNull List<?> list, int from, int to, @NotNull StringBuilder buffer) {
+    new ObjectGraphWalker().walkElements(list, from, to, new ContainerFormatter(buffer));
+  }
+
+  /**
+   * Returns the {@code String} representation of the given {@code Collection}, formatting the arrays and
+   * {@code Collection}s nested in it the same way as the ones nested in an array.
+   *
+   * @param c the {@code Collection} to format.
+   * @return the {@code String} representation of the given {@code Collection}.
+   */
+  @NotNull String formatCollection(@NotNull Collection<?> c) {
+    StringBuilder buffer = new StringBuilder();
+    new ObjectGraphWalker().walk(c, new ContainerFormatter(buffer));
+    return buffer.toString();
+  }
+
   private @NotNull String formatObjectArray(@NotNull Object o) {
     Object[] array = (Object[]) o;
     int size = array.length;
@@ -49,71 +126,207 @@ final class ArrayFormatter {
       return "[]";
     }
     StringBuilder buffer = new StringBuilder((20 * (size - 1)));
-    HashSet<Object[]> alreadyFormatted = newHashSet();
-    deepToString(array, buffer, alreadyFormatted);
+    new ObjectGraphWalker().walk(array, new ContainerFormatter(buffer));
     return buffer.toString();
   }
 
-  private void deepToString(@Nullable Object[] array, @NotNull StringBuilder buffer,
-                            @NotNull Set<Object[]> alreadyFormatted) {
-    if (array == null) {
-      buffer.append(NULL);
-      return;
+  private boolean isObjectArray(@Nullable Object o) {
+    return o != null && isArray(o) && !isArrayTypePrimitive(o);
+  }
+
+  private String formatPrimitiveArray(@Nullable Object o) {
+    if (o == null || !isArray(o)) {
+      return null;
     }
-    alreadyFormatted.add(array);
-    buffer.append('[');
-    int size = array.length;
-    for (int i = 0; i < size; i++) {
-      if (i != 0) {
+    if (o instanceof int[]) {
+      int[] array = (int[]) o;
+      StringBuilder buffer = newBuffer(array.length, 6);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    if (o instanceof long[]) {
+      long[] array = (long[]) o;
+      StringBuilder buffer = newBuffer(array.length, 8);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    if (o instanceof double[]) {
+      double[] array = (double[]) o;
+      StringBuilder buffer = newBuffer(array.length, 10);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    if (o instanceof float[]) {
+      float[] array = (float[]) o;
+      StringBuilder buffer = newBuffer(array.length, 8);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    if (o instanceof byte[]) {
+      byte[] array = (byte[]) o;
+      StringBuilder buffer = newBuffer(array.length, 4);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    if (o instanceof short[]) {
+      short[] array = (short[]) o;
+      StringBuilder buffer = newBuffer(array.length, 5);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    if (o instanceof char[]) {
+      char[] array = (char[]) o;
+      StringBuilder buffer = newBuffer(array.length, 3);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    if (o instanceof boolean[]) {
+      boolean[] array = (boolean[]) o;
+      StringBuilder buffer = newBuffer(array.length, 7);
+      appendElements(array, 0, array.length, buffer);
+      return buffer.append(']').toString();
+    }
+    String msg = String.format("<%s> is not an array of primitives", o);
+    throw new IllegalArgumentException(msg);
+  }
+
+  private void appendElements(@NotNull int[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
         buffer.append(", ");
       }
-      Object element = array[i];
-      if (!isArray(element)) {
-        buffer.append(element == null ? NULL : toStringOf(element));
-        continue;
+      buffer.append(array[i]);
+    }
+  }
+
+  private void appendElements(@NotNull long[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
+        buffer.append(", ");
       }
-      if (!isObjectArray(element)) {
-        buffer.append(formatPrimitiveArray(element));
-        continue;
+      buffer.append(array[i]).append('L');
+    }
+  }
+
+  private void appendElements(@NotNull double[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
+        buffer.append(", ");
       }
-      if (alreadyFormatted.contains(element)) {
-        buffer.append("[...]");
-        continue;
+      buffer.append(array[i]);
+    }
+  }
+
+  private void appendElements(@NotNull float[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
+        buffer.append(", ");
       }
-      deepToString((Object[]) element, buffer, alreadyFormatted);
+      append(array[i], buffer);
     }
-    buffer.append(']');
-    alreadyFormatted.remove(array);
   }
 
-  private boolean isObjectArray(@Nullable Object o) {
-    return o != null && isArray(o) && !isArrayTypePrimitive(o);
+  private void append(float f, @NotNull StringBuilder buffer) {
+    buffer.append(f);
+    // same as ToString.toStringOf(Float): every value but NaN gets the 'f' suffix.
+    if (!Float.isNaN(f)) {
+      buffer.append('f');
+    }
   }
 
-  private String formatPrimitiveArray(@Nullable Object o) {
-    if (o == null || !isArray(o)) {
-      return null;
+  private void appendElements(@NotNull byte[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
+        buffer.append(", ");
+      }
+      buffer.append(array[i]);
     }
-    if (!isArrayTypePrimitive(o)) {
-      String msg = String.format("<%s> is not an array of primitives", o);
-      throw new IllegalArgumentException(msg);
+  }
+
+  private void appendElements(@NotNull short[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
+        buffer.append(", ");
+      }
+      buffer.append(array[i]);
     }
-    int size = getLength(o);
-    if (size == 0) {
-      return "[]";
+  }
+
+  private void appendElements(@NotNull char[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
+        buffer.append(", ");
+      }
+      buffer.append(array[i]);
     }
-    StringBuilder buffer = new StringBuilder();
-    buffer.append('[');
-    buffer.append(toStringOf(Array.get(o, 0)));
-    for (int i = 1; i < size; i++) {
-      buffer.append(", ");
-      buffer.append(toStringOf(Array.get(o, i)));
+  }
+
+  private void appendElements(@NotNull boolean[] array, int from, int to, @NotNull StringBuilder buffer) {
+    for (int i = from; i < to; i++) {
+      if (i != from) {
+        buffer.append(", ");
+      }
+      buffer.append(array[i]);
     }
-    buffer.append("]");
-    return buffer.toString();
+  }
+
+  // Presizes the buffer for the given number of elements, counting the ", " separator and the brackets. Capped to
+  // avoid asking for a huge buffer when the estimate overflows.
+  private static @NotNull StringBuilder newBuffer(int size, int charsPerElement) {
+    long capacity = (long) size * (charsPerElement + 2) + 2;
+    StringBuilder buffer = new StringBuilder((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+    return buffer.append('[');
   }
 
   private boolean isArrayTypePrimitive(@NotNull Object o) {
     return o.getClass().getComponentType().isPrimitive();
   }
+
+  private class ContainerFormatter implements ObjectGraphWalker.Visitor {
+    private final StringBuilder buffer;
+    private boolean first = true;
+
+    ContainerFormatter(@NotNull StringBuilder buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public boolean isContainer(@NotNull Object o) {
+      return o instanceof Object[] || o instanceof Collection<?>;
+    }
+
+    @Override
+    public void enter(@NotNull Object container) {
+      buffer.append('[');
+      first = true;
+    }
+
+    @Override
+    public void beforeElement() {
+      if (!first) {
+        buffer.append(", ");
+      }
+      first = false;
+    }
+
+    @Override
+    public void leaf(@Nullable Object o) {
+      if (o == null) {
+        buffer.append(NULL);
+        return;
+      }
+      buffer.append(isArray(o) ? formatPrimitiveArray(o) : toStringOf(o));
+    }
+
+    @Override
+    public void cycle(@NotNull Object container) {
+      buffer.append(container instanceof Collection<?> ? "(this Collection)" : "[...]");
+    }
+
+    @Override
+    public void exit(@NotNull Object container) {
+      buffer.append(']');
+      first = false;
+    }
+  }
 }
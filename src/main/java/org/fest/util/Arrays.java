@@ -20,6 +20,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.lang.reflect.Array.getLength;
 import static org.fest.util.Preconditions.checkNotNull;
 
 /**
@@ -30,6 +31,7 @@ import static org.fest.util.Preconditions.checkNotNull;
  */
 public class Arrays {
   private static final ArrayFormatter FORMATTER = new ArrayFormatter();
+  private static final ParallelFormatter PARALLEL_FORMATTER = new ParallelFormatter();
 
   private Arrays() {
   }
@@ -77,6 +79,28 @@ public class Arrays {
     return FORMATTER.format(array);
   }
 
+  /**
+   * Returns the {@code String} representation of the given array, or {@code null} if the given object is either {@code
+   * null} or not an array. Contiguous chunks of large arrays are formatted in parallel, and the result is the same as
+   * the one returned by {@link #format(Object)}. The {@code toString} of the elements of the array may be called from
+   * different threads.
+   *
+   * @param array the object that is expected to be an array.
+   * @return the {@code String} representation of the given array.
+   * @since 1.3.0
+   */
+  public static @Nullable String formatInParallel(@Nullable final Object array) {
+    if (!isArray(array)) {
+      return null;
+    }
+    return PARALLEL_FORMATTER.format(getLength(array), new ParallelFormatter.ElementsFormatter() {
+      @Override
+      public void appendElements(int from, int to, @NotNull StringBuilder buffer) {
+        FORMATTER.appendElements(array, from, to, buffer);
+      }
+    });
+  }
+
   /**
    * Returns all the non-{@code null} elements in the given array.
    *
@@ -120,6 +144,41 @@ public class Arrays {
     return true;
   }
 
+  /**
+   * Returns the index of the first element of the given arrays whose values are not equal within the given tolerance.
+   * The elements are compared without boxing them, and the comparison stops at the first difference.
+   *
+   * @param expected  one of the arrays to compare.
+   * @param actual    one of the arrays to compare.
+   * @param tolerance how far apart two elements can be and still be considered equal.
+   * @return the index of the first element out of tolerance; if all the elements are within tolerance, the length of
+   *         the shorter array if the arrays have different lengths, otherwise {@code -1}.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static int indexOfFirstDifference(@NotNull double[] expected, @NotNull double[] actual,
+                                           @NotNull Tolerance tolerance) {
+    return checkNotNull(tolerance).indexOfFirstDifference(checkNotNull(expected), checkNotNull(actual));
+  }
+
+  /**
+   * Returns the index of the first element of the given arrays whose values are not equal within the given tolerance.
+   * The elements are compared without boxing them, and the comparison stops at the first difference. Absolute and
+   * relative tolerances are applied in {@code float} precision.
+   *
+   * @param expected  one of the arrays to compare.
+   * @param actual    one of the arrays to compare.
+   * @param tolerance how far apart two elements can be and still be considered equal.
+   * @return the index of the first element out of tolerance; if all the elements are within tolerance, the length of
+   *         the shorter array if the arrays have different lengths, otherwise {@code -1}.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static int indexOfFirstDifference(@NotNull float[] expected, @NotNull float[] actual,
+                                           @NotNull Tolerance tolerance) {
+    return checkNotNull(tolerance).indexOfFirstDifference(checkNotNull(expected), checkNotNull(actual));
+  }
+
   private static <T> boolean hasElements(@NotNull T[] array) {
     return array.length > 0;
   }
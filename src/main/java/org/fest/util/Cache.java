@@ -0,0 +1,651 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Concurrent {@code Map} with a maximum number of entries, that evicts entries when it is full and, optionally, when
+ * they expire. It is meant to replace the unbounded maps commonly used to memoize results. Use
+ * {@link #computeIfAbsent(Object, Function)} to load missing values, and {@link #hitCount()}, {@link #missCount()} and
+ * {@link #evictionCount()} to find out how well the cache works. Like {@code ConcurrentHashMap}, it does not allow
+ * {@code null} keys or values.
+ * <p>
+ * Entries are stored in a {@code ConcurrentHashMap}. Reads do not take any lock: they record the access in a small,
+ * lossy buffer that is replayed, to update the eviction order, the next time a thread gets hold of the eviction lock.
+ * Writes take the eviction lock to add the new entry to the eviction order and to evict entries. Because of this, the
+ * eviction order is approximate under heavy concurrent reads.
+ * </p>
+ * <p>
+ * Expired entries are removed when they are read, and when they reach the end of the eviction order. Until then,
+ * {@link #size()} counts them.
+ * </p>
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @author Alex Ruiz
+ * @see Maps#newCache(CacheSpec)
+ * @since 1.3.0
+ */
+public final class Cache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private static final int READ_BUFFER_SIZE = 64;
+  private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  // the read buffer is replayed every time a thread records this many reads.
+  private static final int READS_PER_DRAIN = READ_BUFFER_SIZE / 2;
+  // per-thread, so that concurrent reads do not contend on a shared counter.
+  private static final ThreadLocal<ReadProbe> READ_PROBE = ThreadLocal.withInitial(ReadProbe::new);
+
+  private final ConcurrentHashMap<K, Node<K, V>> data;
+  private final int maximumSize;
+  private final int windowMaximumSize;
+  private final long expireAfterWriteNanos;
+  private final long expireAfterAccessNanos;
+  private final LongSupplier ticker;
+  private final FrequencySketch sketch;
+
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  // guarded by evictionLock. With LRU eviction only the main list is used.
+  private final NodeList<K, V> window = new NodeList<K, V>();
+  private final NodeList<K, V> main = new NodeList<K, V>();
+
+  private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<Node<K, V>>(READ_BUFFER_SIZE);
+  // nodes removed from the map that may still be in the eviction order.
+  private final ConcurrentLinkedQueue<Node<K, V>> retiredNodes = new ConcurrentLinkedQueue<Node<K, V>>();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  private Set<Entry<K, V>> entrySet;
+
+  Cache(@NotNull CacheSpec spec) {
+    maximumSize = spec.maximumSize;
+    data = new ConcurrentHashMap<K, Node<K, V>>(Maps.capacityFor(Math.min(maximumSize, 1 << 16)));
+    boolean frequencyBased = spec.evictionPolicy == CacheSpec.EvictionPolicy.WINDOW_TINY_LFU;
+    windowMaximumSize = frequencyBased ? Math.max(1, maximumSize / 100) : 0;
+    sketch = frequencyBased ? new FrequencySketch(maximumSize) : null;
+    expireAfterWriteNanos = spec.expireAfterWriteNanos;
+    expireAfterAccessNanos = spec.expireAfterAccessNanos;
+    ticker = spec.ticker;
+  }
+
+  /**
+   * Returns the value associated with the given key, recording a hit or a miss.
+   *
+   * @param key the given key.
+   * @return the value associated with the given key, or {@code null} if there is none, or it expired.
+   * @throws NullPointerException if the given key is {@code null}.
+   */
+  @Override
+  public @Nullable V get(@NotNull Object key) {
+    Node<K, V> node = data.get(checkNotNull(key));
+    if (node == null) {
+      missCount.increment();
+      return null;
+    }
+    long now = ticker.getAsLong();
+    if (isExpired(node, now)) {
+      expire(node);
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    afterRead(node, now);
+    return node.value;
+  }
+
+  /**
+   * Returns the value associated with the given key or, if there is none, loads it with the given function and stores
+   * it. The function is called at most once per missing key, while other writes to the same key wait; it should be
+   * short and must not write to this cache. A hit or a miss is recorded.
+   *
+   * @param key    the given key.
+   * @param loader computes the value to store.
+   * @return the value associated with the given key, or {@code null} if the function returned {@code null}.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public @Nullable V computeIfAbsent(@NotNull K key, @NotNull Function<? super K, ? extends V> loader) {
+    checkNotNull(key);
+    checkNotNull(loader);
+    long now = ticker.getAsLong();
+    Node<K, V> node = data.get(key);
+    if (node != null && !isExpired(node, now)) {
+      hitCount.increment();
+      afterRead(node, now);
+      return node.value;
+    }
+    missCount.increment();
+    // the expired node replaced by the loaded one, and the node created for the loaded value.
+    Object[] changes = new Object[2];
+    Node<K, V> result = data.compute(key, (k, existing) -> {
+      if (existing != null && !isExpired(existing, now)) {
+        return existing;
+      }
+      changes[0] = existing;
+      V value = loader.apply(k);
+      if (value == null) {
+        return null;
+      }
+      changes[1] = new Node<K, V>(k, value, now);
+      return (Node<K, V>) changes[1];
+    });
+    if (changes[0] != null) {
+      retire((Node<K, V>) changes[0], true);
+    }
+    if (changes[1] != null || changes[0] != null) {
+      afterWrite((Node<K, V>) changes[1]);
+    }
+    if (result == null) {
+      return null;
+    }
+    return result.value;
+  }
+
+  /**
+   * Indicates whether this cache contains an entry for the given key that did not expire. No hit or miss is recorded.
+   *
+   * @param key the given key.
+   * @return {@code true} if this cache contains an entry for the given key.
+   * @throws NullPointerException if the given key is {@code null}.
+   */
+  @Override
+  public boolean containsKey(@NotNull Object key) {
+    Node<K, V> node = data.get(checkNotNull(key));
+    return node != null && !isExpired(node, ticker.getAsLong());
+  }
+
+  @Override
+  public @Nullable V put(@NotNull K key, @NotNull V value) {
+    Node<K, V> node = new Node<K, V>(checkNotNull(key), checkNotNull(value), ticker.getAsLong());
+    Node<K, V> old = data.put(key, node);
+    return replaced(old, node);
+  }
+
+  @Override
+  public @Nullable V putIfAbsent(@NotNull K key, @NotNull V value) {
+    long now = ticker.getAsLong();
+    Node<K, V> node = new Node<K, V>(checkNotNull(key), checkNotNull(value), now);
+    while (true) {
+      Node<K, V> existing = data.putIfAbsent(key, node);
+      if (existing == null) {
+        afterWrite(node);
+        return null;
+      }
+      if (!isExpired(existing, now)) {
+        afterRead(existing, now);
+        return existing.value;
+      }
+      if (data.replace(key, existing, node)) {
+        retire(existing, true);
+        afterWrite(node);
+        return null;
+      }
+    }
+  }
+
+  @Override
+  public @Nullable V replace(@NotNull K key, @NotNull V value) {
+    long now = ticker.getAsLong();
+    Node<K, V> node = new Node<K, V>(checkNotNull(key), checkNotNull(value), now);
+    while (true) {
+      Node<K, V> existing = data.get(key);
+      if (existing == null || isExpired(existing, now)) {
+        return null;
+      }
+      if (data.replace(key, existing, node)) {
+        return replaced(existing, node);
+      }
+    }
+  }
+
+  @Override
+  public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+    checkNotNull(oldValue);
+    long now = ticker.getAsLong();
+    Node<K, V> node = new Node<K, V>(checkNotNull(key), checkNotNull(newValue), now);
+    while (true) {
+      Node<K, V> existing = data.get(key);
+      if (existing == null || isExpired(existing, now) || !existing.value.equals(oldValue)) {
+        return false;
+      }
+      if (data.replace(key, existing, node)) {
+        replaced(existing, node);
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public @Nullable V remove(@NotNull Object key) {
+    Node<K, V> node = data.remove(checkNotNull(key));
+    if (node == null) {
+      return null;
+    }
+    boolean expired = isExpired(node, ticker.getAsLong());
+    retire(node, expired);
+    afterWrite(null);
+    return expired ? null : node.value;
+  }
+
+  @Override
+  public boolean remove(@NotNull Object key, @Nullable Object value) {
+    checkNotNull(key);
+    if (value == null) {
+      return false;
+    }
+    while (true) {
+      Node<K, V> existing = data.get(key);
+      if (existing == null || isExpired(existing, ticker.getAsLong()) || !existing.value.equals(value)) {
+        return false;
+      }
+      if (data.remove(key, existing)) {
+        retire(existing, false);
+        afterWrite(null);
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (K key : data.keySet()) {
+      Node<K, V> node = data.remove(key);
+      if (node != null) {
+        retire(node, false);
+      }
+    }
+    afterWrite(null);
+  }
+
+  /**
+   * Returns the number of entries in this cache, including the ones that expired but were not removed yet.
+   *
+   * @return the number of entries in this cache.
+   */
+  @Override
+  public int size() {
+    return data.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return data.isEmpty();
+  }
+
+  /**
+   * Returns a view of the entries of this cache that did not expire. Iterating over it does not change the eviction
+   * order or record any hit or miss.
+   *
+   * @return a view of the entries of this cache.
+   */
+  @Override
+  public @NotNull Set<Entry<K, V>> entrySet() {
+    Set<Entry<K, V>> result = entrySet;
+    if (result == null) {
+      result = new EntrySet();
+      entrySet = result;
+    }
+    return result;
+  }
+
+  /**
+   * @return the maximum number of entries this cache keeps.
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * @return how many times a value was found in this cache.
+   */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return how many times a value was not found in this cache, because it was missing or had expired.
+   */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the ratio of lookups that found a value in this cache, or {@code 1.0} if there were no lookups.
+   */
+  public double hitRate() {
+    long hits = hitCount();
+    long lookups = hits + missCount();
+    return lookups == 0 ? 1.0 : (double) hits / lookups;
+  }
+
+  /**
+   * @return how many entries were removed from this cache because it was full, or because they expired.
+   */
+  public long evictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Replays the recorded reads, and removes the entries that have to be evicted. This normally happens as a side effect
+   * of writes.
+   */
+  @VisibleForTesting
+  void cleanUp() {
+    afterWrite(null);
+  }
+
+  private boolean isExpired(@NotNull Node<K, V> node, long now) {
+    if (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos) {
+      return true;
+    }
+    return expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos;
+  }
+
+  private void expire(@NotNull Node<K, V> node) {
+    if (data.remove(node.key, node)) {
+      retire(node, true);
+      tryToCleanUp();
+    }
+  }
+
+  private @Nullable V replaced(@Nullable Node<K, V> old, @NotNull Node<K, V> node) {
+    V oldValue = null;
+    if (old != null) {
+      boolean expired = isExpired(old, node.writeTime);
+      retire(old, expired);
+      oldValue = expired ? null : old.value;
+    }
+    afterWrite(node);
+    return oldValue;
+  }
+
+  // The node was removed from the map: it will be removed from the eviction order during the next clean up.
+  private void retire(@NotNull Node<K, V> node, boolean expired) {
+    node.retired = true;
+    retiredNodes.add(node);
+    if (expired) {
+      evictionCount.increment();
+    }
+  }
+
+  private void afterRead(@NotNull Node<K, V> node, long now) {
+    if (expireAfterAccessNanos > 0) {
+      node.accessTime = now;
+    }
+    ReadProbe probe = READ_PROBE.get();
+    int count = probe.count++;
+    readBuffer.lazySet((probe.start + count) & READ_BUFFER_MASK, node);
+    if ((count & (READS_PER_DRAIN - 1)) == READS_PER_DRAIN - 1) {
+      tryToCleanUp();
+    }
+  }
+
+  private void tryToCleanUp() {
+    if (evictionLock.tryLock()) {
+      try {
+        maintain(null);
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private void afterWrite(@Nullable Node<K, V> added) {
+    evictionLock.lock();
+    try {
+      maintain(added);
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  // guarded by evictionLock.
+  private void maintain(@Nullable Node<K, V> added) {
+    Node<K, V> retired;
+    while ((retired = retiredNodes.poll()) != null) {
+      unlink(retired);
+    }
+    drainReadBuffer();
+    if (added != null && !added.retired && added.list == null) {
+      if (sketch != null) {
+        sketch.increment(added.key);
+        window.addLast(added);
+      } else {
+        main.addLast(added);
+      }
+    }
+    if (expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0) {
+      long now = ticker.getAsLong();
+      expireFirstNodes(window, now);
+      expireFirstNodes(main, now);
+    }
+    evict();
+  }
+
+  private void drainReadBuffer() {
+    for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+      Node<K, V> node = readBuffer.getAndSet(i, null);
+      if (node == null || node.list == null) {
+        continue;
+      }
+      node.list.moveToLast(node);
+      if (sketch != null) {
+        sketch.increment(node.key);
+      }
+    }
+  }
+
+  private void expireFirstNodes(@NotNull NodeList<K, V> list, long now) {
+    Node<K, V> node;
+    while ((node = list.first) != null && isExpired(node, now)) {
+      evict(node);
+    }
+  }
+
+  private void evict() {
+    while (window.size > windowMaximumSize) {
+      // the oldest entry of the window either goes to the main space, or competes with the main space's victim.
+      Node<K, V> candidate = window.first;
+      window.remove(candidate);
+      if (window.size + main.size < maximumSize) {
+        main.addLast(candidate);
+        continue;
+      }
+      Node<K, V> victim = main.first;
+      if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+        evict(victim);
+        main.addLast(candidate);
+      } else if (victim == null) {
+        main.addLast(candidate);
+      } else {
+        evict(candidate);
+      }
+    }
+    while (window.size + main.size > maximumSize) {
+      evict(main.first != null ? main.first : window.first);
+    }
+  }
+
+  private void evict(@NotNull Node<K, V> node) {
+    unlink(node);
+    if (data.remove(node.key, node)) {
+      node.retired = true;
+      evictionCount.increment();
+    }
+  }
+
+  private void unlink(@NotNull Node<K, V> node) {
+    if (node.list != null) {
+      node.list.remove(node);
+    }
+  }
+
+  // Where a thread records its reads: threads start at different slots of the read buffer, and count their own reads.
+  private static final class ReadProbe {
+    final int start = (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32);
+    int count;
+  }
+
+  private static class Node<K, V> {
+    final K key;
+    final V value;
+    final long writeTime;
+    volatile long accessTime;
+    volatile boolean retired;
+
+    // guarded by the eviction lock.
+    NodeList<K, V> list;
+    Node<K, V> previous;
+    Node<K, V> next;
+
+    Node(@NotNull K key, @NotNull V value, long now) {
+      this.key = key;
+      this.value = value;
+      writeTime = now;
+      accessTime = now;
+    }
+  }
+
+  // Eviction order, from the first node to evict to the last one. Guarded by the eviction lock.
+  private static class NodeList<K, V> {
+    Node<K, V> first;
+    Node<K, V> last;
+    int size;
+
+    void addLast(@NotNull Node<K, V> node) {
+      node.list = this;
+      node.previous = last;
+      node.next = null;
+      if (last == null) {
+        first = node;
+      } else {
+        last.next = node;
+      }
+      last = node;
+      size++;
+    }
+
+    void remove(@NotNull Node<K, V> node) {
+      if (node.previous == null) {
+        first = node.next;
+      } else {
+        node.previous.next = node.next;
+      }
+      if (node.next == null) {
+        last = node.previous;
+      } else {
+        node.next.previous = node.previous;
+      }
+      node.list = null;
+      node.previous = null;
+      node.next = null;
+      size--;
+    }
+
+    void moveToLast(@NotNull Node<K, V> node) {
+      if (node != last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+  }
+
+  private class EntrySet extends AbstractSet<Entry<K, V>> {
+    @Override
+    public @NotNull Iterator<Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return Cache.this.size();
+    }
+
+    @Override
+    public void clear() {
+      Cache.this.clear();
+    }
+  }
+
+  private class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Node<K, V>> nodes = data.values().iterator();
+    private final long now = ticker.getAsLong();
+    private Node<K, V> next;
+    private Node<K, V> current;
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && nodes.hasNext()) {
+        Node<K, V> node = nodes.next();
+        if (!isExpired(node, now)) {
+          next = node;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      current = next;
+      next = null;
+      return new WriteThroughEntry(current.key, current.value);
+    }
+
+    @Override
+    public void remove() {
+      if (current == null) {
+        throw new IllegalStateException();
+      }
+      Cache.this.remove(current.key);
+      current = null;
+    }
+  }
+
+  private class WriteThroughEntry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    WriteThroughEntry(@NotNull K key, @NotNull V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(@NotNull V value) {
+      Cache.this.put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+}
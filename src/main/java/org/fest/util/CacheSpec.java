@@ -0,0 +1,150 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Settings of a {@link Cache}: how many entries it keeps, which entry it evicts when it is full, and when its entries
+ * expire. Settings are immutable; each {@code with} method returns a copy with one setting changed:
+ * <pre>
+ * Cache&lt;String, Pattern&gt; patterns = Maps.newCache(CacheSpec.maximumSize(1000)
+ *                                                       .evictingWith(EvictionPolicy.WINDOW_TINY_LFU)
+ *                                                       .expiringAfterAccess(10, TimeUnit.MINUTES));
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @see Maps#newCache(CacheSpec)
+ * @since 1.3.0
+ */
+public final class CacheSpec {
+  /**
+   * How a {@link Cache} chooses the entry to evict when it is full.
+   */
+  public enum EvictionPolicy {
+    /**
+     * Evicts the entry that was not read or written for the longest time.
+     */
+    LEAST_RECENTLY_USED,
+
+    /**
+     * Keeps recently added entries in a small window, and lets them replace older entries only if they were used more
+     * often, according to an aging frequency sketch. It protects popular entries from bursts of entries used only once.
+     */
+    WINDOW_TINY_LFU
+  }
+
+  final int maximumSize;
+  final EvictionPolicy evictionPolicy;
+  final long expireAfterWriteNanos;
+  final long expireAfterAccessNanos;
+  final LongSupplier ticker;
+
+  /**
+   * Creates the settings of a {@link Cache} that keeps at most the given number of entries, evicting the least recently
+   * used one when it is full. Entries do not expire.
+   *
+   * @param maximumSize the maximum number of entries.
+   * @return the created settings.
+   * @throws IllegalArgumentException if the given size is not greater than zero.
+   */
+  public static @NotNull CacheSpec maximumSize(int maximumSize) {
+    if (maximumSize <= 0) {
+      String msg = String.format("The maximum size should be greater than zero, but was <%d>", maximumSize);
+      throw new IllegalArgumentException(msg);
+    }
+    return new CacheSpec(maximumSize, EvictionPolicy.LEAST_RECENTLY_USED, 0, 0, System::nanoTime);
+  }
+
+  private CacheSpec(int maximumSize, @NotNull EvictionPolicy evictionPolicy, long expireAfterWriteNanos,
+                    long expireAfterAccessNanos, @NotNull LongSupplier ticker) {
+    this.maximumSize = maximumSize;
+    this.evictionPolicy = evictionPolicy;
+    this.expireAfterWriteNanos = expireAfterWriteNanos;
+    this.expireAfterAccessNanos = expireAfterAccessNanos;
+    this.ticker = ticker;
+  }
+
+  /**
+   * Returns a copy of these settings that uses the given eviction policy.
+   *
+   * @param policy the eviction policy.
+   * @return the copy of these settings.
+   * @throws NullPointerException if the given policy is {@code null}.
+   */
+  public @NotNull CacheSpec evictingWith(@NotNull EvictionPolicy policy) {
+    return new CacheSpec(maximumSize, checkNotNull(policy), expireAfterWriteNanos, expireAfterAccessNanos, ticker);
+  }
+
+  /**
+   * Returns a copy of these settings where entries expire once the given duration has passed since they were written.
+   *
+   * @param duration how long entries live after they are written.
+   * @param unit     the unit of the duration.
+   * @return the copy of these settings.
+   * @throws IllegalArgumentException if the given duration is not greater than zero.
+   * @throws NullPointerException if the given unit is {@code null}.
+   */
+  public @NotNull CacheSpec expiringAfterWrite(long duration, @NotNull TimeUnit unit) {
+    return new CacheSpec(maximumSize, evictionPolicy, toNanos(duration, unit), expireAfterAccessNanos, ticker);
+  }
+
+  /**
+   * Returns a copy of these settings where entries expire once the given duration has passed since they were last read
+   * or written.
+   *
+   * @param duration how long entries live after they are last read or written.
+   * @param unit     the unit of the duration.
+   * @return the copy of these settings.
+   * @throws IllegalArgumentException if the given duration is not greater than zero.
+   * @throws NullPointerException if the given unit is {@code null}.
+   */
+  public @NotNull CacheSpec expiringAfterAccess(long duration, @NotNull TimeUnit unit) {
+    return new CacheSpec(maximumSize, evictionPolicy, expireAfterWriteNanos, toNanos(duration, unit), ticker);
+  }
+
+  /**
+   * Returns a copy of these settings that reads the time, in nanoseconds, from the given source instead of
+   * {@code System.nanoTime()}.
+   *
+   * @param ticker the source of time.
+   * @return the copy of these settings.
+   */
+  @VisibleForTesting
+  @NotNull CacheSpec withTicker(@NotNull LongSupplier ticker) {
+    return new CacheSpec(maximumSize, evictionPolicy, expireAfterWriteNanos, expireAfterAccessNanos,
+        checkNotNull(ticker));
+  }
+
+  private static long toNanos(long duration, @NotNull TimeUnit unit) {
+    checkNotNull(unit);
+    if (duration <= 0) {
+      String msg = String.format("The duration should be greater than zero, but was <%d>", duration);
+      throw new IllegalArgumentException(msg);
+    }
+    return unit.toNanos(duration);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[maximumSize=%d, evictionPolicy=%s, expireAfterWriteNanos=%d, expireAfterAccessNanos=%d]",
+        getClass().getSimpleName(), maximumSize, evictionPolicy, expireAfterWriteNanos, expireAfterAccessNanos);
+  }
+}
@@ -18,6 +18,11 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
 
 /**
  * Filters elements in a collection.
@@ -27,4 +32,35 @@ import java.util.List;
  */
 public interface CollectionFilter<T> {
   @NotNull List<T> filter(@NotNull Collection<?> target);
+
+  /**
+   * Filters the elements of the given {@code Iterable}, reading it only once. By default, elements of an
+   * {@code Iterable} that is not a {@code Collection} are copied into a list that is then filtered.
+   *
+   * @param target the {@code Iterable} to filter.
+   * @return a list containing the filtered elements.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @since 1.3.0
+   */
+  default @NotNull List<T> filter(@NotNull Iterable<?> target) {
+    checkNotNull(target);
+    if (target instanceof Collection<?>) {
+      return filter((Collection<?>) target);
+    }
+    return filter(newArrayList(target));
+  }
+
+  /**
+   * Filters the elements of the given {@code Stream}, keeping their encounter order. By default, the elements are
+   * collected into a list that is then filtered.
+   *
+   * @param target the {@code Stream} to filter.
+   * @return a list containing the filtered elements.
+   * @throws NullPointerException if the given {@code Stream} is {@code null}.
+   * @since 1.3.0
+   */
+  default @NotNull List<T> filter(@NotNull Stream<?> target) {
+    List<?> elements = checkNotNull(target).collect(toList());
+    return filter(checkNotNull(elements));
+  }
 }
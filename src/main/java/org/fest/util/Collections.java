@@ -18,10 +18,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.fest.util.Lists.emptyList;
+import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Sets.newHashSet;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Utility methods related to {@code Collection}s.
@@ -31,6 +32,9 @@ import static org.fest.util.ToString.toStringOf;
  * @author Joel Costigliola
  */
 public final class Collections {
+  private static final ArrayFormatter FORMATTER = new ArrayFormatter();
+  private static final ParallelFormatter PARALLEL_FORMATTER = new ParallelFormatter();
+
   private Collections() {
   }
 
@@ -58,6 +62,115 @@ public final class Collections {
     return duplicates;
   }
 
+  /**
+   * Returns any duplicate elements from the given {@code Collection}, compared and hashed with the given strategy
+   * instead of their own {@code equals} and {@code hashCode}. Elements are not wrapped. Duplicates are returned once,
+   * in the order in which their first duplicate appears.
+   *
+   * @param <T>      the generic type of the given {@code Collection}.
+   * @param c        the given {@code Collection} that might have duplicate elements.
+   * @param strategy how to compare and hash the elements.
+   * @return a {@code Collection} containing the duplicate elements of the given one. If the given {@code Collection} is
+   *         {@code null} or if no duplicates were found, an empty {@code Collection} is returned.
+   * @throws NullPointerException if the given strategy is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Collection<T> duplicatesFrom(@Nullable Collection<T> c,
+                                                          @NotNull HashingStrategy<? super T> strategy) {
+    checkNotNull(strategy);
+    List<T> duplicates = new ArrayList<T>();
+    if (c == null) {
+      return duplicates;
+    }
+    Set<T> unique = new StrategyHashSet<T>(strategy, c.size());
+    Set<T> alreadyFound = new StrategyHashSet<T>(strategy);
+    for (T e : c) {
+      if (!unique.add(e) && alreadyFound.add(e)) {
+        duplicates.add(e);
+      }
+    }
+    return duplicates;
+  }
+
+  /**
+   * Counts how many times each distinct element of the given {@code Iterable} appears, comparing the elements with
+   * their own {@code equals} and {@code hashCode}. The elements are iterated once and never copied, and the counts are
+   * kept as {@code int}s. {@link Occurrences#duplicates()} returns the elements that appear more than once.
+   *
+   * @param <T>      the type of the elements.
+   * @param elements the elements to count.
+   * @return how many times each distinct element appears.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Occurrences<T> occurrencesIn(@NotNull Iterable<? extends T> elements) {
+    return occurrencesIn(elements, HashingStrategies.natural());
+  }
+
+  /**
+   * Counts how many times each distinct element of the given {@code Iterable} appears, comparing and hashing the
+   * elements with the given strategy. The elements are iterated once and never copied, and the counts are kept as
+   * {@code int}s.
+   *
+   * @param <T>      the type of the elements.
+   * @param elements the elements to count.
+   * @param strategy how to compare and hash the elements.
+   * @return how many times each distinct element appears.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Occurrences<T> occurrencesIn(@NotNull Iterable<? extends T> elements,
+                                                         @NotNull HashingStrategy<? super T> strategy) {
+    int expectedSize = elements instanceof Collection<?> ? ((Collection<?>) elements).size() : 0;
+    return Occurrences.count(checkNotNull(elements).iterator(), checkNotNull(strategy), expectedSize);
+  }
+
+  /**
+   * Counts how many times each distinct element returned by the given {@code Iterator} appears, comparing the elements
+   * with their own {@code equals} and {@code hashCode}. The {@code Iterator} is consumed, and the counts are kept as
+   * {@code int}s.
+   *
+   * @param <T>      the type of the elements.
+   * @param elements the elements to count.
+   * @return how many times each distinct element appears.
+   * @throws NullPointerException if the given {@code Iterator} is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Occurrences<T> occurrencesIn(@NotNull Iterator<? extends T> elements) {
+    return Occurrences.count(checkNotNull(elements), HashingStrategies.natural(), 0);
+  }
+
+  /**
+   * Counts how many times each distinct element of the given {@code Stream} appears, comparing the elements with their
+   * own {@code equals} and {@code hashCode}. The {@code Stream} is consumed sequentially, without collecting it, and
+   * the counts are kept as {@code int}s.
+   *
+   * @param <T>      the type of the elements.
+   * @param elements the elements to count.
+   * @return how many times each distinct element appears.
+   * @throws NullPointerException if the given {@code Stream} is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Occurrences<T> occurrencesIn(@NotNull Stream<? extends T> elements) {
+    return Occurrences.count(checkNotNull(elements).iterator(), HashingStrategies.natural(), 0);
+  }
+
+  /**
+   * Counts how many times each distinct element of the given {@code Stream} appears, consuming it in parallel. The
+   * elements are counted in a {@code ConcurrentHashMap}, with a mutable counter per distinct element, and compared
+   * with their own {@code equals} and {@code hashCode}. This pays off for large streams whose elements are cheap to
+   * hash, mostly when many of them are equal.
+   *
+   * @param <T>      the type of the elements.
+   * @param elements the elements to count.
+   * @return how many times each distinct element appears.
+   * @throws NullPointerException if the given {@code Stream} is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Occurrences<T> occurrencesInParallel(@NotNull Stream<? extends T> elements) {
+    return Occurrences.countInParallel(checkNotNull(elements));
+  }
+
   /**
    * Indicates whether the given {@code Collection} is {@code null} or empty.
    *
@@ -68,9 +181,356 @@ public final class Collections {
     return c == null || c.isEmpty();
   }
 
+  /**
+   * Indicates whether the given {@code Collection}s have the same elements in any order, each of them the same number
+   * of times. Elements are compared with {@link Objects#areEqual(Object, Object)}. The occurrences of the elements of
+   * the first {@code Collection} are counted in a hash table, without boxing the counts, so the comparison takes linear
+   * time. It stops at the first element of the second {@code Collection} that is not in the first one.
+   *
+   * @param c1 one of the {@code Collection}s to compare.
+   * @param c2 one of the {@code Collection}s to compare.
+   * @return {@code true} if the given {@code Collection}s have the same elements in any order, or if both are
+   *         {@code null}.
+   * @since 1.3.0
+   */
+  public static boolean haveSameElementsInAnyOrder(@Nullable Collection<?> c1, @Nullable Collection<?> c2) {
+    if (c1 == c2) {
+      return true;
+    }
+    if (c1 == null || c2 == null || c1.size() != c2.size()) {
+      return false;
+    }
+    ObjectIntHashMap counts = countOccurrencesIn(c1);
+    for (Object e : c2) {
+      if (!counts.decrementIfPositive(e)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares the given {@code Collection}s in any order, counting how many times each element appears, and returns
+   * the elements missing from {@code actual} and the ones in it that were not expected. Elements are compared with
+   * {@link Objects#areEqual(Object, Object)}. The occurrences of the expected elements are counted in a hash table,
+   * without boxing the counts, so the comparison takes linear time. Missing elements are returned in the order of
+   * {@code expected}, unexpected ones in the order of {@code actual}.
+   *
+   * @param <T>      the type of the elements.
+   * @param expected the elements expected.
+   * @param actual   the elements found.
+   * @return the difference between the given {@code Collection}s.
+   * @throws NullPointerException if any of the given {@code Collection}s is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> MultisetDifference<T> differenceInAnyOrder(@NotNull Collection<? extends T> expected,
+                                                                       @NotNull Collection<? extends T> actual) {
+    ObjectIntHashMap counts = countOccurrencesIn(checkNotNull(expected));
+    List<T> unexpected = new ArrayList<T>();
+    for (T e : checkNotNull(actual)) {
+      if (!counts.decrementIfPositive(e)) {
+        unexpected.add(e);
+      }
+    }
+    List<T> missing = new ArrayList<T>();
+    for (T e : expected) {
+      // what is left of the counts are the missing occurrences.
+      if (counts.decrementIfPositive(e)) {
+        missing.add(e);
+      }
+    }
+    return new MultisetDifference<T>(missing, unexpected);
+  }
+
+  /**
+   * Compares the given {@code Collection}s in any order, like {@link #differenceInAnyOrder(Collection, Collection)}
+   * does, but sorting copies of them with the given {@code Comparator} and merging them, instead of hashing their
+   * elements. Elements are equal if the {@code Comparator} says so. This is useful for elements whose
+   * {@code hashCode} is expensive or not consistent with their order. Missing and unexpected elements are returned
+   * sorted.
+   *
+   * @param <T>        the type of the elements.
+   * @param expected   the elements expected.
+   * @param actual     the elements found.
+   * @param comparator the order of the elements.
+   * @return the difference between the given {@code Collection}s.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> MultisetDifference<T> differenceInAnyOrder(@NotNull Collection<? extends T> expected,
+                                                                       @NotNull Collection<? extends T> actual,
+                                                                       @NotNull Comparator<? super T> comparator) {
+    checkNotNull(comparator);
+    List<T> sortedExpected = new ArrayList<T>(checkNotNull(expected));
+    List<T> sortedActual = new ArrayList<T>(checkNotNull(actual));
+    java.util.Collections.sort(sortedExpected, comparator);
+    java.util.Collections.sort(sortedActual, comparator);
+    List<T> missing = new ArrayList<T>();
+    List<T> unexpected = new ArrayList<T>();
+    int i = 0;
+    int j = 0;
+    while (i < sortedExpected.size() && j < sortedActual.size()) {
+      T e = sortedExpected.get(i);
+      T a = sortedActual.get(j);
+      int comparison = comparator.compare(e, a);
+      if (comparison < 0) {
+        missing.add(e);
+        i++;
+      } else if (comparison > 0) {
+        unexpected.add(a);
+        j++;
+      } else {
+        i++;
+        j++;
+      }
+    }
+    missing.addAll(sortedExpected.subList(i, sortedExpected.size()));
+    unexpected.addAll(sortedActual.subList(j, sortedActual.size()));
+    return new MultisetDifference<T>(missing, unexpected);
+  }
+
+  /**
+   * Returns the elements of the first {@code Collection} that are not in the second one, in the order of the first
+   * {@code Collection}, compared with their own {@code equals} and {@code hashCode}. A hash index of the smaller
+   * {@code Collection} is built once, so this takes linear time. If the second {@code Collection} is a {@code Set},
+   * its own {@code contains} is used instead of an index.
+   *
+   * @param <T> the type of the elements.
+   * @param c1  the {@code Collection} whose elements are returned.
+   * @param c2  the {@code Collection} whose elements are excluded.
+   * @return the elements of the first {@code Collection} that are not in the second one.
+   * @throws NullPointerException if any of the given {@code Collection}s is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> List<T> difference(@NotNull Collection<? extends T> c1, @NotNull Collection<?> c2) {
+    return select(c1, c2, HashingStrategies.natural(), false);
+  }
+
+  /**
+   * Returns the elements of the first {@code Collection} that are not in the second one, in the order of the first
+   * {@code Collection}, compared and hashed with the given strategy. A hash index of the smaller {@code Collection} is
+   * built once, so this takes linear time.
+   *
+   * @param <T>      the type of the elements.
+   * @param c1       the {@code Collection} whose elements are returned.
+   * @param c2       the {@code Collection} whose elements are excluded.
+   * @param strategy how to compare and hash the elements.
+   * @return the elements of the first {@code Collection} that are not in the second one.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> List<T> difference(@NotNull Collection<? extends T> c1,
+                                                @NotNull Collection<? extends T> c2,
+                                                @NotNull HashingStrategy<? super T> strategy) {
+    return select(c1, c2, strategy, false);
+  }
+
+  /**
+   * Returns the elements of the first {@code Collection} that are also in the second one, in the order of the first
+   * {@code Collection}, compared with their own {@code equals} and {@code hashCode}. A hash index of the smaller
+   * {@code Collection} is built once, so this takes linear time. If the second {@code Collection} is a {@code Set},
+   * its own {@code contains} is used instead of an index.
+   *
+   * @param <T> the type of the elements.
+   * @param c1  the {@code Collection} whose elements are returned.
+   * @param c2  the {@code Collection} the returned elements must be in.
+   * @return the elements of the first {@code Collection} that are also in the second one.
+   * @throws NullPointerException if any of the given {@code Collection}s is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> List<T> intersection(@NotNull Collection<? extends T> c1, @NotNull Collection<?> c2) {
+    return select(c1, c2, HashingStrategies.natural(), true);
+  }
+
+  /**
+   * Returns the elements of the first {@code Collection} that are also in the second one, in the order of the first
+   * {@code Collection}, compared and hashed with the given strategy. A hash index of the smaller {@code Collection} is
+   * built once, so this takes linear time.
+   *
+   * @param <T>      the type of the elements.
+   * @param c1       the {@code Collection} whose elements are returned.
+   * @param c2       the {@code Collection} the returned elements must be in.
+   * @param strategy how to compare and hash the elements.
+   * @return the elements of the first {@code Collection} that are also in the second one.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> List<T> intersection(@NotNull Collection<? extends T> c1,
+                                                  @NotNull Collection<? extends T> c2,
+                                                  @NotNull HashingStrategy<? super T> strategy) {
+    return select(c1, c2, strategy, true);
+  }
+
+  /**
+   * Indicates whether the given {@code Collection} contains all the given elements, compared with their own
+   * {@code equals} and {@code hashCode}. A hash index of the smaller {@code Collection} is built once, so this takes
+   * linear time. If the {@code Collection} to search is a {@code Set}, its own {@code contains} is used instead of an
+   * index.
+   *
+   * @param c        the {@code Collection} to search.
+   * @param elements the elements to look for.
+   * @return {@code true} if the given {@code Collection} contains all the given elements.
+   * @throws NullPointerException if any of the given {@code Collection}s is {@code null}.
+   * @since 1.3.0
+   */
+  public static boolean containsAll(@NotNull Collection<?> c, @NotNull Collection<?> elements) {
+    return containsAll(c, elements, HashingStrategies.natural());
+  }
+
+  /**
+   * Indicates whether the given {@code Collection} contains all the given elements, compared and hashed with the
+   * given strategy. A hash index of the smaller {@code Collection} is built once, so this takes linear time.
+   *
+   * @param <T>      the type of the elements.
+   * @param c        the {@code Collection} to search.
+   * @param elements the elements to look for.
+   * @param strategy how to compare and hash the elements.
+   * @return {@code true} if the given {@code Collection} contains all the given elements.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static <T> boolean containsAll(@NotNull Collection<? extends T> c, @NotNull Collection<? extends T> elements,
+                                        @NotNull HashingStrategy<? super T> strategy) {
+    checkNotNull(c);
+    checkNotNull(elements);
+    checkNotNull(strategy);
+    if (isNatural(strategy) && c instanceof Set<?>) {
+      return c.containsAll(elements);
+    }
+    if (c.size() <= elements.size()) {
+      Set<Object> index = indexOf(c, strategy);
+      for (Object e : elements) {
+        if (!index.contains(e)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    // fewer elements to look for than elements to search: cross them off an index as they are found.
+    Set<Object> notFound = indexOf(elements, strategy);
+    for (Object e : c) {
+      if (notFound.remove(e) && notFound.isEmpty()) {
+        return true;
+      }
+    }
+    return notFound.isEmpty();
+  }
+
+  /**
+   * Indicates whether the given {@code Collection} contains none of the given elements, compared with their own
+   * {@code equals} and {@code hashCode}. A hash index of the smaller {@code Collection} is built once, so this takes
+   * linear time. If any of the given {@code Collection}s is a {@code Set}, its own {@code contains} is used instead
+   * of an index.
+   *
+   * @param c        the {@code Collection} to search.
+   * @param elements the elements to look for.
+   * @return {@code true} if the given {@code Collection} contains none of the given elements.
+   * @throws NullPointerException if any of the given {@code Collection}s is {@code null}.
+   * @since 1.3.0
+   */
+  public static boolean containsNone(@NotNull Collection<?> c, @NotNull Collection<?> elements) {
+    return containsNone(c, elements, HashingStrategies.natural());
+  }
+
+  /**
+   * Indicates whether the given {@code Collection} contains none of the given elements, compared and hashed with the
+   * given strategy. A hash index of the smaller {@code Collection} is built once, so this takes linear time.
+   *
+   * @param <T>      the type of the elements.
+   * @param c        the {@code Collection} to search.
+   * @param elements the elements to look for.
+   * @param strategy how to compare and hash the elements.
+   * @return {@code true} if the given {@code Collection} contains none of the given elements.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static <T> boolean containsNone(@NotNull Collection<? extends T> c, @NotNull Collection<? extends T> elements,
+                                         @NotNull HashingStrategy<? super T> strategy) {
+    checkNotNull(c);
+    checkNotNull(elements);
+    checkNotNull(strategy);
+    // none of the elements of one Collection is in the other one: which one is searched does not matter.
+    Collection<?> searched;
+    Collection<?> scanned;
+    if (isNatural(strategy) && c instanceof Set<?>) {
+      searched = c;
+      scanned = elements;
+    } else if (isNatural(strategy) && elements instanceof Set<?>) {
+      searched = elements;
+      scanned = c;
+    } else if (c.size() <= elements.size()) {
+      searched = indexOf(c, strategy);
+      scanned = elements;
+    } else {
+      searched = indexOf(elements, strategy);
+      scanned = c;
+    }
+    for (Object e : scanned) {
+      if (searched.contains(e)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Returns the elements of c1 that are (or are not) in c2.
+  private static @NotNull <T> List<T> select(@NotNull Collection<? extends T> c1, @NotNull Collection<?> c2,
+                                             @NotNull HashingStrategy<?> strategy, boolean inC2) {
+    checkNotNull(c1);
+    checkNotNull(c2);
+    checkNotNull(strategy);
+    Collection<?> found;
+    if (isNatural(strategy) && c2 instanceof Set<?>) {
+      found = c2;
+    } else if (c2.size() <= c1.size()) {
+      found = indexOf(c2, strategy);
+    } else {
+      // c1 is smaller: index it, and keep the ones of its elements that are in c2.
+      Set<Object> index = indexOf(c1, strategy);
+      Set<Object> inBoth = newStrategyHashSet(strategy, index.size());
+      for (Object e : c2) {
+        if (index.contains(e)) {
+          inBoth.add(e);
+        }
+      }
+      found = inBoth;
+    }
+    List<T> selected = new ArrayList<T>();
+    for (T e : c1) {
+      if (found.contains(e) == inC2) {
+        selected.add(e);
+      }
+    }
+    return selected;
+  }
+
+  private static @NotNull Set<Object> indexOf(@NotNull Collection<?> c, @NotNull HashingStrategy<?> strategy) {
+    Set<Object> index = newStrategyHashSet(strategy, c.size());
+    index.addAll(c);
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @NotNull Set<Object> newStrategyHashSet(@NotNull HashingStrategy<?> strategy, int expectedSize) {
+    return new StrategyHashSet<Object>((HashingStrategy<Object>) strategy, expectedSize);
+  }
+
+  private static boolean isNatural(@NotNull HashingStrategy<?> strategy) {
+    return strategy == HashingStrategies.natural();
+  }
+
+  private static @NotNull ObjectIntHashMap countOccurrencesIn(@NotNull Collection<?> c) {
+    ObjectIntHashMap counts = new ObjectIntHashMap(c.size());
+    for (Object e : c) {
+      counts.add(e, 1);
+    }
+    return counts;
+  }
+
   /**
    * Returns the {@code String} representation of the given {@code Collection}, or {@code null} if the given {@code
-   * Collection} is {@code null}.
+   * Collection} is {@code null}. A {@code Collection} that contains itself, directly or through nested arrays and
+   * {@code Collection}s, is represented as {@code (this Collection)} where it appears again.
    *
    * @param c the {@code Collection} to format.
    * @return the {@code String} representation of the given {@code Collection}.
@@ -79,20 +539,31 @@ public final class Collections {
     if (c == null) {
       return null;
     }
-    Iterator<?> i = c.iterator();
-    if (!i.hasNext()) {
-      return "[]";
-    }
-    StringBuilder b = new StringBuilder();
-    b.append('[');
-    for (; ; ) {
-      Object e = i.next();
-      b.append(e == c ? "(this Collection)" : toStringOf(e));
-      if (!i.hasNext()) {
-        return b.append(']').toString();
-      }
-      b.append(", ");
+    return FORMATTER.formatCollection(c);
+  }
+
+  /**
+   * Returns the {@code String} representation of the given {@code Collection}, or {@code null} if the given {@code
+   * Collection} is {@code null}. Contiguous chunks of large random-access {@code List}s are formatted in parallel, any
+   * other {@code Collection} is formatted sequentially. The result is the same as the one returned by {@link
+   * #format(Collection)}. The {@code toString} of the elements of the {@code Collection} may be called from different
+   * threads.
+   *
+   * @param c the {@code Collection} to format.
+   * @return the {@code String} representation of the given {@code Collection}.
+   * @since 1.3.0
+   */
+  public static @Nullable String formatInParallel(@Nullable Collection<?> c) {
+    if (!(c instanceof List<?>) || !(c instanceof RandomAccess)) {
+      return format(c);
     }
+    final List<?> list = (List<?>) c;
+    return PARALLEL_FORMATTER.format(list.size(), new ParallelFormatter.ElementsFormatter() {
+      @Override
+      public void appendElements(int from, int to, @NotNull StringBuilder buffer) {
+        FORMATTER.appendElements(list, from, to, buffer);
+      }
+    });
   }
 
   /**
@@ -0,0 +1,303 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Concurrent {@code Map} that compares its keys by identity ({@code ==}) and hashes them with
+ * {@code System.identityHashCode}, optionally holding them through weak references, so that an entry disappears once
+ * its key is garbage collected. Like {@code ConcurrentHashMap}, which it is built on, reads do not take any lock and
+ * {@code null} keys and values are not allowed.
+ * <p>
+ * Entries whose keys were garbage collected are purged on writes and when calling {@link #size()}; until then they
+ * take memory but are never returned.
+ * </p>
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @author Alex Ruiz
+ */
+final class ConcurrentIdentityHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private final ConcurrentHashMap<Key, V> map = new ConcurrentHashMap<Key, V>();
+  // null if keys are strongly referenced.
+  private final ReferenceQueue<Object> collectedKeys;
+
+  private Set<Entry<K, V>> entrySet;
+
+  /**
+   * Creates a new {@link ConcurrentIdentityHashMap}.
+   *
+   * @param weakKeys whether keys are held through weak references.
+   */
+  ConcurrentIdentityHashMap(boolean weakKeys) {
+    collectedKeys = weakKeys ? new ReferenceQueue<Object>() : null;
+  }
+
+  @Override
+  public @Nullable V get(@NotNull Object key) {
+    return map.get(new StrongKey(checkNotNull(key)));
+  }
+
+  @Override
+  public boolean containsKey(@NotNull Object key) {
+    return map.containsKey(new StrongKey(checkNotNull(key)));
+  }
+
+  @Override
+  public @Nullable V put(@NotNull K key, @NotNull V value) {
+    purge();
+    return map.put(newKey(key), checkNotNull(value));
+  }
+
+  @Override
+  public @Nullable V putIfAbsent(@NotNull K key, @NotNull V value) {
+    purge();
+    return map.putIfAbsent(newKey(key), checkNotNull(value));
+  }
+
+  @Override
+  public @Nullable V computeIfAbsent(@NotNull K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+    checkNotNull(mappingFunction);
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    purge();
+    return map.computeIfAbsent(newKey(key), k -> mappingFunction.apply(key));
+  }
+
+  @Override
+  public @Nullable V remove(@NotNull Object key) {
+    purge();
+    return map.remove(new StrongKey(checkNotNull(key)));
+  }
+
+  @Override
+  public boolean remove(@NotNull Object key, @Nullable Object value) {
+    purge();
+    return value != null && map.remove(new StrongKey(checkNotNull(key)), value);
+  }
+
+  @Override
+  public @Nullable V replace(@NotNull K key, @NotNull V value) {
+    purge();
+    return map.replace(new StrongKey(checkNotNull(key)), checkNotNull(value));
+  }
+
+  @Override
+  public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+    purge();
+    return map.replace(new StrongKey(checkNotNull(key)), checkNotNull(oldValue), checkNotNull(newValue));
+  }
+
+  @Override
+  public void clear() {
+    map.clear();
+    purge();
+  }
+
+  /**
+   * Returns the number of entries in this map, after purging the entries whose keys were garbage collected.
+   *
+   * @return the number of entries in this map.
+   */
+  @Override
+  public int size() {
+    purge();
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public @NotNull Set<Entry<K, V>> entrySet() {
+    Set<Entry<K, V>> result = entrySet;
+    if (result == null) {
+      result = new EntrySet();
+      entrySet = result;
+    }
+    return result;
+  }
+
+  private @NotNull Key newKey(@NotNull K key) {
+    checkNotNull(key);
+    return collectedKeys != null ? new WeakKey(key, collectedKeys) : new StrongKey(key);
+  }
+
+  private void purge() {
+    if (collectedKeys == null) {
+      return;
+    }
+    Reference<?> collected;
+    while ((collected = collectedKeys.poll()) != null) {
+      // a collected key is only equal to itself.
+      map.remove(collected);
+    }
+  }
+
+  // Wraps a key, so it is compared by identity. A key whose referent was garbage collected is only equal to itself.
+  private interface Key {
+    @Nullable Object referent();
+  }
+
+  private static boolean areEqual(@NotNull Key key, @Nullable Object o) {
+    if (key == o) {
+      return true;
+    }
+    if (!(o instanceof Key)) {
+      return false;
+    }
+    Object referent = key.referent();
+    return referent != null && referent == ((Key) o).referent();
+  }
+
+  private static class StrongKey implements Key {
+    private final Object referent;
+
+    StrongKey(@NotNull Object referent) {
+      this.referent = referent;
+    }
+
+    @Override
+    public @NotNull Object referent() {
+      return referent;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return areEqual(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(referent);
+    }
+  }
+
+  private static class WeakKey extends WeakReference<Object> implements Key {
+    // kept, so the key can still be found in the map after its referent is garbage collected.
+    private final int hashCode;
+
+    WeakKey(@NotNull Object referent, @NotNull ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      hashCode = System.identityHashCode(referent);
+    }
+
+    @Override
+    public @Nullable Object referent() {
+      return get();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return areEqual(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private class EntrySet extends AbstractSet<Entry<K, V>> {
+    @Override
+    public @NotNull Iterator<Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return ConcurrentIdentityHashMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      ConcurrentIdentityHashMap.this.clear();
+    }
+  }
+
+  private class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Entry<Key, V>> entries = map.entrySet().iterator();
+    private Entry<K, V> next;
+    private K current;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean hasNext() {
+      while (next == null && entries.hasNext()) {
+        Entry<Key, V> entry = entries.next();
+        // the key stays strongly referenced while it is returned by this iterator.
+        Object key = entry.getKey().referent();
+        if (key != null) {
+          next = new WriteThroughEntry((K) key, entry.getValue());
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Entry<K, V> result = next;
+      current = result.getKey();
+      next = null;
+      return result;
+    }
+
+    @Override
+    public void remove() {
+      if (current == null) {
+        throw new IllegalStateException();
+      }
+      ConcurrentIdentityHashMap.this.remove(current);
+      current = null;
+    }
+  }
+
+  private class WriteThroughEntry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    WriteThroughEntry(@NotNull K key, @NotNull V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(@NotNull V value) {
+      ConcurrentIdentityHashMap.this.put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+}
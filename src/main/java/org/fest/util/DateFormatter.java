@@ -0,0 +1,106 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_TIME;
+import static java.time.format.DateTimeFormatter.ISO_ZONED_DATE_TIME;
+
+/**
+ * Creates an ISO-8601 {@code String} representation of dates and times. All the formatters are immutable and shared, so
+ * this class is thread-safe.
+ *
+ * @author Alex Ruiz
+ */
+final class DateFormatter {
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS");
+  private static final DateTimeFormatter CALENDAR_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX");
+
+  /**
+   * Formats the given {@code Date} in the default time zone, like {@code 2013-01-15T10:30:45.000}.
+   *
+   * @param date the {@code Date} to format.
+   * @return the ISO-8601 representation of the given {@code Date}.
+   */
+  @NotNull String format(@NotNull Date date) {
+    // getTime instead of toInstant, which java.sql.Date does not support.
+    Instant instant = Instant.ofEpochMilli(date.getTime());
+    return DATE_FORMAT.format(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+  }
+
+  /**
+   * Formats the given {@code Calendar} in its own time zone, like {@code 2013-01-15T10:30:45.000+01:00}.
+   *
+   * @param calendar the {@code Calendar} to format.
+   * @return the ISO-8601 representation of the given {@code Calendar}.
+   */
+  @NotNull String format(@NotNull Calendar calendar) {
+    Instant instant = Instant.ofEpochMilli(calendar.getTimeInMillis());
+    return CALENDAR_FORMAT.format(ZonedDateTime.ofInstant(instant, calendar.getTimeZone().toZoneId()));
+  }
+
+  /**
+   * Formats the given {@code java.time} object. Date-times and times are formatted with the matching ISO-8601
+   * formatter, which, unlike their {@code toString}, always include the seconds. Any other type is formatted with its
+   * {@code toString}, which is already ISO-8601 for {@code LocalDate}, {@code Year} and {@code YearMonth}.
+   *
+   * @param temporal the object to format.
+   * @return the ISO-8601 representation of the given object.
+   */
+  @Nullable String format(@NotNull TemporalAccessor temporal) {
+    DateTimeFormatter formatter = formatterFor(temporal);
+    return formatter != null ? formatter.format(temporal) : temporal.toString();
+  }
+
+  private static @Nullable DateTimeFormatter formatterFor(@NotNull TemporalAccessor temporal) {
+    if (temporal instanceof Instant) {
+      return ISO_INSTANT;
+    }
+    if (temporal instanceof LocalDateTime) {
+      return ISO_LOCAL_DATE_TIME;
+    }
+    if (temporal instanceof ZonedDateTime) {
+      return ISO_ZONED_DATE_TIME;
+    }
+    if (temporal instanceof OffsetDateTime) {
+      return ISO_OFFSET_DATE_TIME;
+    }
+    if (temporal instanceof LocalTime) {
+      return ISO_LOCAL_TIME;
+    }
+    if (temporal instanceof OffsetTime) {
+      return ISO_OFFSET_TIME;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Reads the value of an instance field through a {@link MethodHandle}. The accessors of a class are discovered only
+ * once and then cached, so reading the fields of many objects of the same class does not repeat any reflective lookup.
+ * Values of primitive fields can also be compared without boxing them.
+ *
+ * @author Alex Ruiz
+ */
+final class FieldAccessor {
+  private static final FieldAccessor[] NO_ACCESSORS = new FieldAccessor[0];
+
+  private static final ClassValue<FieldAccessor[]> ACCESSORS = new ClassValue<FieldAccessor[]>() {
+    @Override
+    protected FieldAccessor[] computeValue(Class<?> type) {
+      return discoverAccessorsOf(type);
+    }
+  };
+
+  private final String name;
+  private final Class<?> type;
+  private final MethodHandle getter;
+  // returns the value of a primitive field without boxing it, null if the field is not primitive.
+  private final MethodHandle primitiveGetter;
+
+  private FieldAccessor(@NotNull Field field, @NotNull MethodHandle getter) {
+    this.name = field.getName();
+    this.type = field.getType();
+    this.getter = getter.asType(methodType(Object.class, Object.class));
+    this.primitiveGetter = type.isPrimitive() ? getter.asType(methodType(type, Object.class)) : null;
+  }
+
+  /**
+   * Returns the accessors for the instance fields declared in the given class and its superclasses, superclass fields
+   * first. Static and synthetic fields, and fields that cannot be made accessible, are ignored. The returned array is
+   * shared and must not be modified.
+   *
+   * @param type the given class.
+   * @return the accessors for the instance fields of the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  static @NotNull FieldAccessor[] accessorsOf(@NotNull Class<?> type) {
+    return checkNotNull(ACCESSORS.get(checkNotNull(type)));
+  }
+
+  /**
+   * Indicates whether the given class is part of the JDK. The fields of JDK classes are implementation details, so they
+   * should not be used to represent or compare objects.
+   *
+   * @param type the given class.
+   * @return {@code true} if the given class is in a {@code java} or {@code javax} package.
+   */
+  static boolean isJdkType(@NotNull Class<?> type) {
+    String name = type.getName();
+    return name.startsWith("java.") || name.startsWith("javax.");
+  }
+
+  private static @NotNull FieldAccessor[] discoverAccessorsOf(@NotNull Class<?> type) {
+    if (type.isArray() || type.isPrimitive() || type.isInterface()) {
+      return NO_ACCESSORS;
+    }
+    Class<?> superclass = type.getSuperclass();
+    FieldAccessor[] inherited = superclass != null ? accessorsOf(superclass) : NO_ACCESSORS;
+    List<FieldAccessor> accessors = new ArrayList<FieldAccessor>();
+    for (FieldAccessor accessor : inherited) {
+      accessors.add(accessor);
+    }
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    for (Field field : type.getDeclaredFields()) {
+      if (isStatic(field.getModifiers()) || field.isSynthetic()) {
+        continue;
+      }
+      MethodHandle getter = getterFor(field, lookup);
+      if (getter != null) {
+        accessors.add(new FieldAccessor(field, getter));
+      }
+    }
+    return accessors.isEmpty() ? NO_ACCESSORS : accessors.toArray(new FieldAccessor[accessors.size()]);
+  }
+
+  private static @Nullable MethodHandle getterFor(@NotNull Field field, @NotNull MethodHandles.Lookup lookup) {
+    try {
+      field.setAccessible(true);
+      return lookup.unreflectGetter(field);
+    } catch (IllegalAccessException e) {
+      return null;
+    } catch (RuntimeException e) {
+      // the field is in a module that is not open to us, or a security manager does not let us access it.
+      return null;
+    }
+  }
+
+  /**
+   * @return the name of the field.
+   */
+  @NotNull String name() {
+    return name;
+  }
+
+  /**
+   * @return the declared type of the field.
+   */
+  @NotNull Class<?> type() {
+    return type;
+  }
+
+  /**
+   * @return {@code true} if the type of the field is primitive.
+   */
+  boolean isPrimitive() {
+    return primitiveGetter != null;
+  }
+
+  /**
+   * Indicates whether the given objects have the same value in this primitive field, without boxing the values. Like
+   * {@code Double.equals} and {@code Float.equals}, {@code NaN} is equal to itself and {@code 0.0} is not equal to
+   * {@code -0.0}.
+   *
+   * @param target1 one of the objects to read the field from.
+   * @param target2 one of the objects to read the field from.
+   * @return {@code true} if the given objects have the same value in this field.
+   * @throws IllegalStateException if the field is not primitive.
+   * @throws IntrospectionError if the value of the field cannot be read.
+   */
+  boolean haveEqualPrimitiveValues(@NotNull Object target1, @NotNull Object target2) {
+    if (primitiveGetter == null) {
+      throw new IllegalStateException(String.format("The field '%s' is not primitive", name));
+    }
+    try {
+      if (type == int.class) {
+        return (int) primitiveGetter.invokeExact(target1) == (int) primitiveGetter.invokeExact(target2);
+      }
+      if (type == long.class) {
+        return (long) primitiveGetter.invokeExact(target1) == (long) primitiveGetter.invokeExact(target2);
+      }
+      if (type == double.class) {
+        double d1 = (double) primitiveGetter.invokeExact(target1);
+        double d2 = (double) primitiveGetter.invokeExact(target2);
+        return Double.doubleToLongBits(d1) == Double.doubleToLongBits(d2);
+      }
+      if (type == float.class) {
+        float f1 = (float) primitiveGetter.invokeExact(target1);
+        float f2 = (float) primitiveGetter.invokeExact(target2);
+        return Float.floatToIntBits(f1) == Float.floatToIntBits(f2);
+      }
+      if (type == boolean.class) {
+        return (boolean) primitiveGetter.invokeExact(target1) == (boolean) primitiveGetter.invokeExact(target2);
+      }
+      if (type == byte.class) {
+        return (byte) primitiveGetter.invokeExact(target1) == (byte) primitiveGetter.invokeExact(target2);
+      }
+      if (type == short.class) {
+        return (short) primitiveGetter.invokeExact(target1) == (short) primitiveGetter.invokeExact(target2);
+      }
+      return (char) primitiveGetter.invokeExact(target1) == (char) primitiveGetter.invokeExact(target2);
+    } catch (Throwable t) {
+      throw cannotRead(target1, t);
+    }
+  }
+
+  /**
+   * Returns the value of the field in the given object. Values of primitive fields are boxed.
+   *
+   * @param target the object to read the field from.
+   * @return the value of the field in the given object.
+   * @throws IntrospectionError if the value of the field cannot be read.
+   */
+  @Nullable Object get(@NotNull Object target) {
+    try {
+      return (Object) getter.invokeExact(target);
+    } catch (Throwable t) {
+      throw cannotRead(target, t);
+    }
+  }
+
+  private @NotNull IntrospectionError cannotRead(@NotNull Object target, @NotNull Throwable cause) {
+    String msg = String.format("Unable to read field '%s' of %s", name, target.getClass().getName());
+    return new IntrospectionError(checkNotNull(msg), cause);
+  }
+}
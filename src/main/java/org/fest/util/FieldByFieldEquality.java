@@ -0,0 +1,138 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Compares objects field by field. The objects being compared are equal if they are of the same class and have equal
+ * values in the selected fields. Field values whose class does not override {@code equals} are compared the same way,
+ * with all their fields; any other value, and any object of a JDK class, is compared with
+ * {@link Objects#areEqual(Object, Object)}. Values of primitive fields are compared without boxing them.
+ * <p>
+ * The fields of a class are discovered only once, by {@link FieldAccessor}. Objects are considered equal if that same
+ * pair of objects is already being compared (cycles in both graphs at the same place), so the comparison is symmetric.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class FieldByFieldEquality {
+  private static final ClassValue<Boolean> COMPARED_BY_FIELDS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return !FieldAccessor.isJdkType(type) && !type.isEnum() && !type.isArray() && !overridesEquals(type);
+    }
+  };
+
+  boolean areEqual(@Nullable Object o1, @Nullable Object o2, @NotNull Set<String> includedFields,
+                   @NotNull Set<String> excludedFields) {
+    if (o1 == o2) {
+      return true;
+    }
+    if (o1 == null || o2 == null || o1.getClass() != o2.getClass()) {
+      return false;
+    }
+    Class<?> type = o1.getClass();
+    if (FieldAccessor.isJdkType(type) || type.isArray()) {
+      // the fields of JDK classes are implementation details.
+      return Objects.areEqual(o1, o2);
+    }
+    FieldAccessor[] accessors = FieldAccessor.accessorsOf(type);
+    if (!includedFields.isEmpty()) {
+      checkFieldsExist(type, accessors, includedFields);
+    }
+    Set<IdentityPair> beingCompared = new HashSet<IdentityPair>();
+    beingCompared.add(new IdentityPair(o1, o2));
+    for (FieldAccessor accessor : accessors) {
+      String name = accessor.name();
+      if (!includedFields.isEmpty() && !includedFields.contains(name) || excludedFields.contains(name)) {
+        continue;
+      }
+      if (!haveEqualValues(accessor, o1, o2, beingCompared)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean areEqualValues(@Nullable Object o1, @Nullable Object o2, @NotNull Set<IdentityPair> beingCompared) {
+    if (o1 == o2) {
+      return true;
+    }
+    if (o1 == null || o2 == null) {
+      return false;
+    }
+    if (o1.getClass() != o2.getClass() || !COMPARED_BY_FIELDS.get(o1.getClass())) {
+      return Objects.areEqual(o1, o2);
+    }
+    IdentityPair pair = new IdentityPair(o1, o2);
+    if (!beingCompared.add(pair)) {
+      return true;
+    }
+    boolean equal = true;
+    for (FieldAccessor accessor : FieldAccessor.accessorsOf(o1.getClass())) {
+      if (!haveEqualValues(accessor, o1, o2, beingCompared)) {
+        equal = false;
+        break;
+      }
+    }
+    beingCompared.remove(pair);
+    return equal;
+  }
+
+  private boolean haveEqualValues(@NotNull FieldAccessor accessor, @NotNull Object o1, @NotNull Object o2,
+                                  @NotNull Set<IdentityPair> beingCompared) {
+    if (accessor.isPrimitive()) {
+      return accessor.haveEqualPrimitiveValues(o1, o2);
+    }
+    return areEqualValues(accessor.get(o1), accessor.get(o2), beingCompared);
+  }
+
+  private static void checkFieldsExist(@NotNull Class<?> type, @NotNull FieldAccessor[] accessors,
+                                       @NotNull Set<String> fieldNames) {
+    int found = 0;
+    for (FieldAccessor accessor : accessors) {
+      if (fieldNames.contains(accessor.name())) {
+        found++;
+      }
+    }
+    if (found == fieldNames.size()) {
+      return;
+    }
+    Set<String> unknown = new LinkedHashSet<String>(fieldNames);
+    for (FieldAccessor accessor : accessors) {
+      unknown.remove(accessor.name());
+    }
+    if (unknown.isEmpty()) {
+      // a field hides a field with the same name declared in a superclass.
+      return;
+    }
+    String msg = String.format("The class <%s> has no fields named <%s>", type.getName(), unknown);
+    throw new IllegalArgumentException(msg);
+  }
+
+  private static boolean overridesEquals(@NotNull Class<?> type) {
+    try {
+      return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import static java.util.Collections.newSetFromMap;
+import static org.fest.util.Arrays.isArray;
+import static org.fest.util.ToString.toStringOf;
+
+/**
+ * Creates a field-by-field {@code String} representation of an object graph, like {@code Person{name='Leia',
+ * age=23}}. Objects whose class does not override {@code toString} are represented by their fields, any other object is
+ * represented by {@link ToString#toStringOf(Object)}. Elements of arrays, {@code Collection}s and {@code Map}s are
+ * represented following the same rules.
+ * <p>
+ * Objects already being formatted (cycles) and objects deeper than the maximum depth are elided, like {@code
+ * Person{...}}, {@code [...]} or <code>{...}</code>.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class FieldByFieldFormatter {
+  static final int DEFAULT_MAX_DEPTH = 8;
+
+  private static final ClassValue<Boolean> FORMATTED_BY_FIELDS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return !FieldAccessor.isJdkType(type) && !type.isEnum() && !overridesToString(type);
+    }
+  };
+
+  private final int maxDepth;
+
+  FieldByFieldFormatter(int maxDepth) {
+    if (maxDepth < 0) {
+      String msg = String.format("The maximum depth should not be negative, but was <%d>", maxDepth);
+      throw new IllegalArgumentException(msg);
+    }
+    this.maxDepth = maxDepth;
+  }
+
+  @Nullable String format(@Nullable Object o) {
+    if (o == null) {
+      return null;
+    }
+    StringBuilder buffer = new StringBuilder();
+    Set<Object> beingFormatted = newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    append(o, 0, buffer, beingFormatted);
+    return buffer.toString();
+  }
+
+  private void append(@Nullable Object o, int depth, @NotNull StringBuilder buffer,
+                      @NotNull Set<Object> beingFormatted) {
+    if (o == null) {
+      buffer.append("null");
+      return;
+    }
+    if (isArray(o)) {
+      if (o.getClass().getComponentType().isPrimitive()) {
+        buffer.append(Arrays.format(o));
+        return;
+      }
+      appendElements(o, java.util.Arrays.asList((Object[]) o), "[", "]", depth, buffer, beingFormatted);
+      return;
+    }
+    if (o instanceof Collection<?>) {
+      appendElements(o, (Collection<?>) o, "[", "]", depth, buffer, beingFormatted);
+      return;
+    }
+    if (o instanceof Map<?, ?>) {
+      appendEntries((Map<?, ?>) o, depth, buffer, beingFormatted);
+      return;
+    }
+    if (!FORMATTED_BY_FIELDS.get(o.getClass())) {
+      buffer.append(toStringOf(o));
+      return;
+    }
+    appendFields(o, depth, buffer, beingFormatted);
+  }
+
+  private void appendElements(@NotNull Object container, @NotNull Iterable<?> elements, @NotNull String start,
+                              @NotNull String end, int depth, @NotNull StringBuilder buffer,
+                              @NotNull Set<Object> beingFormatted) {
+    if (depth >= maxDepth || !beingFormatted.add(container)) {
+      buffer.append(start).append("...").append(end);
+      return;
+    }
+    buffer.append(start);
+    Iterator<?> i = elements.iterator();
+    while (i.hasNext()) {
+      append(i.next(), depth + 1, buffer, beingFormatted);
+      if (i.hasNext()) {
+        buffer.append(", ");
+      }
+    }
+    buffer.append(end);
+    beingFormatted.remove(container);
+  }
+
+  private void appendEntries(@NotNull Map<?, ?> map, int depth, @NotNull StringBuilder buffer,
+                             @NotNull Set<Object> beingFormatted) {
+    if (depth >= maxDepth || !beingFormatted.add(map)) {
+      buffer.append("{...}");
+      return;
+    }
+    buffer.append('{');
+    Iterator<? extends Entry<?, ?>> i = map.entrySet().iterator();
+    while (i.hasNext()) {
+      Entry<?, ?> e = i.next();
+      append(e.getKey(), depth + 1, buffer, beingFormatted);
+      buffer.append('=');
+      append(e.getValue(), depth + 1, buffer, beingFormatted);
+      if (i.hasNext()) {
+        buffer.append(", ");
+      }
+    }
+    buffer.append('}');
+    beingFormatted.remove(map);
+  }
+
+  private void appendFields(@NotNull Object o, int depth, @NotNull StringBuilder buffer,
+                            @NotNull Set<Object> beingFormatted) {
+    buffer.append(typeNameOf(o.getClass()));
+    if (depth >= maxDepth || !beingFormatted.add(o)) {
+      buffer.append("{...}");
+      return;
+    }
+    buffer.append('{');
+    FieldAccessor[] accessors = FieldAccessor.accessorsOf(o.getClass());
+    for (int i = 0; i < accessors.length; i++) {
+      if (i != 0) {
+        buffer.append(", ");
+      }
+      FieldAccessor accessor = accessors[i];
+      buffer.append(accessor.name()).append('=');
+      append(accessor.get(o), depth + 1, buffer, beingFormatted);
+    }
+    buffer.append('}');
+    beingFormatted.remove(o);
+  }
+
+  private static @NotNull String typeNameOf(@NotNull Class<?> type) {
+    String name = type.getSimpleName();
+    return name.isEmpty() ? type.getName() : name;
+  }
+
+  private static boolean overridesToString(@NotNull Class<?> type) {
+    try {
+      return type.getMethod("toString").getDeclaringClass() != Object.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+/**
+ * Approximate, aging count of how often keys were used, in the style of a count-min sketch with 4-bit counters. It is
+ * used by {@link Cache} to decide, when it has to evict an entry, whether a new entry is more likely to be used again
+ * than the one it would replace. Counters are halved after a number of increments proportional to the size of the
+ * cache, so keys that were popular long ago do not stay popular forever.
+ * <p>
+ * This class is not thread-safe: {@link Cache} only uses it while holding its eviction lock.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class FrequencySketch {
+  private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+      0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+  private static final int MAXIMUM_FREQUENCY = 15;
+
+  // each long holds sixteen 4-bit counters.
+  private final long[] table;
+  private final int tableMask;
+  private final int sampleSize;
+  private int size;
+
+  /**
+   * Creates a new {@link FrequencySketch}.
+   *
+   * @param maximumSize the maximum number of entries of the cache using this sketch.
+   */
+  FrequencySketch(int maximumSize) {
+    int length = Math.max(16, Integer.highestOneBit(Math.min(maximumSize, 1 << 29) - 1) << 1);
+    table = new long[length];
+    tableMask = length - 1;
+    sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the estimated number of times the given key was used, between 0 and 15.
+   *
+   * @param key the given key.
+   * @return the estimated number of times the given key was used.
+   */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = MAXIMUM_FREQUENCY;
+    for (int i = 0; i < 4; i++) {
+      long word = table[indexOf(hash, i)];
+      int count = (int) ((word >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Records one use of the given key.
+   *
+   * @param key the given key.
+   */
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    boolean incremented = false;
+    for (int i = 0; i < 4; i++) {
+      incremented |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (incremented && ++size >= sampleSize) {
+      halve();
+    }
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xfL << offset;
+    if ((table[index] & mask) == mask) {
+      return false;
+    }
+    table[index] += 1L << offset;
+    return true;
+  }
+
+  private void halve() {
+    int odd = 0;
+    for (int i = 0; i < table.length; i++) {
+      odd += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    size = (size >>> 1) - (odd >>> 2);
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return (int) h & tableMask;
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
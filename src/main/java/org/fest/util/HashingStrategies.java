@@ -0,0 +1,189 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Common {@link HashingStrategy} implementations.
+ *
+ * @author Alex Ruiz
+ * @since 1.3.0
+ */
+public final class HashingStrategies {
+  private static final HashingStrategy<Object> NATURAL = new HashingStrategy<Object>() {
+    @Override
+    public int hashCodeOf(@Nullable Object o) {
+      return Objects.hashCodeFor(o);
+    }
+
+    @Override
+    public boolean areEqual(@Nullable Object o1, @Nullable Object o2) {
+      return o1 == null ? o2 == null : o1.equals(o2);
+    }
+
+    @Override
+    public String toString() {
+      return "natural";
+    }
+  };
+
+  private static final HashingStrategy<Object> DEEP = new HashingStrategy<Object>() {
+    @Override
+    public int hashCodeOf(@Nullable Object o) {
+      return Objects.deepHashCodeFor(o);
+    }
+
+    @Override
+    public boolean areEqual(@Nullable Object o1, @Nullable Object o2) {
+      return Objects.areEqual(o1, o2);
+    }
+
+    @Override
+    public String toString() {
+      return "deep";
+    }
+  };
+
+  private static final HashingStrategy<Object> IDENTITY = new HashingStrategy<Object>() {
+    @Override
+    public int hashCodeOf(@Nullable Object o) {
+      return System.identityHashCode(o);
+    }
+
+    @Override
+    public boolean areEqual(@Nullable Object o1, @Nullable Object o2) {
+      return o1 == o2;
+    }
+
+    @Override
+    public String toString() {
+      return "identity";
+    }
+  };
+
+  private static final HashingStrategy<String> CASE_INSENSITIVE = new HashingStrategy<String>() {
+    @Override
+    public int hashCodeOf(@Nullable String s) {
+      if (s == null) {
+        return 0;
+      }
+      int h = 0;
+      for (int i = 0; i < s.length(); i++) {
+        // the same folding as String.equalsIgnoreCase, without creating a lower-case copy of the String.
+        h = 31 * h + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+      }
+      return h;
+    }
+
+    @Override
+    public boolean areEqual(@Nullable String s1, @Nullable String s2) {
+      return s1 == null ? s2 == null : s1.equalsIgnoreCase(s2);
+    }
+
+    @Override
+    public String toString() {
+      return "case-insensitive";
+    }
+  };
+
+  private HashingStrategies() {
+  }
+
+  /**
+   * Returns the strategy that uses the objects' own {@code equals} and {@code hashCode}, like {@code HashSet} and
+   * {@code HashMap} do.
+   *
+   * @param <T> the type of the objects to compare and hash.
+   * @return the natural strategy.
+   */
+  @SuppressWarnings("unchecked")
+  public static @NotNull <T> HashingStrategy<T> natural() {
+    return (HashingStrategy<T>) NATURAL;
+  }
+
+  /**
+   * Returns the strategy that compares objects with {@link Objects#areEqual(Object, Object)} and hashes them with
+   * {@link Objects#deepHashCodeFor(Object)}, so arrays with equal elements are equal.
+   *
+   * @param <T> the type of the objects to compare and hash.
+   * @return the deep strategy.
+   */
+  @SuppressWarnings("unchecked")
+  public static @NotNull <T> HashingStrategy<T> deep() {
+    return (HashingStrategy<T>) DEEP;
+  }
+
+  /**
+   * Returns the strategy that compares objects by identity, like {@code IdentityHashMap} does.
+   *
+   * @param <T> the type of the objects to compare and hash.
+   * @return the identity strategy.
+   */
+  @SuppressWarnings("unchecked")
+  public static @NotNull <T> HashingStrategy<T> identity() {
+    return (HashingStrategy<T>) IDENTITY;
+  }
+
+  /**
+   * Returns the strategy that compares {@code String}s ignoring case, like {@code String.equalsIgnoreCase} does. Hash
+   * codes are calculated without creating lower-case copies of the {@code String}s.
+   *
+   * @return the case-insensitive strategy.
+   */
+  public static @NotNull HashingStrategy<String> caseInsensitive() {
+    return CASE_INSENSITIVE;
+  }
+
+  /**
+   * Returns a strategy that compares and hashes objects by a key extracted from them, with the key's own
+   * {@code equals} and {@code hashCode}. For example, {@code byKey(Person::getId)} considers people with the same id
+   * to be equal. The key is extracted every time an object is compared or hashed, so the extraction should be cheap.
+   *
+   * @param <T> the type of the objects to compare and hash.
+   * @param key extracts the key of an object that is not {@code null}. {@code null} objects have no key.
+   * @return the created strategy.
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  public static @NotNull <T> HashingStrategy<T> byKey(@NotNull final Function<? super T, ?> key) {
+    checkNotNull(key);
+    return new HashingStrategy<T>() {
+      @Override
+      public int hashCodeOf(@Nullable T o) {
+        return o == null ? 0 : Objects.hashCodeFor(key.apply(o));
+      }
+
+      @Override
+      public boolean areEqual(@Nullable T o1, @Nullable T o2) {
+        if (o1 == null || o2 == null) {
+          return o1 == o2;
+        }
+        Object key1 = key.apply(o1);
+        Object key2 = key.apply(o2);
+        return key1 == null ? key2 == null : key1.equals(key2);
+      }
+
+      @Override
+      public String toString() {
+        return "by key";
+      }
+    };
+  }
+}
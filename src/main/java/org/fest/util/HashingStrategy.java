@@ -0,0 +1,50 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decides how the hash-based utilities of this package compare and hash objects, instead of the objects' own
+ * {@code equals} and {@code hashCode}. For example, a strategy can ignore the case of {@code String}s or compare arrays
+ * by their elements, without wrapping each object in an adapter.
+ * <p>
+ * Implementations must be consistent: objects that are equal according to {@link #areEqual(Object, Object)} must have
+ * the same {@link #hashCodeOf(Object)}.
+ * </p>
+ *
+ * @param <T> the type of the objects to compare and hash.
+ * @author Alex Ruiz
+ * @see HashingStrategies
+ * @since 1.3.0
+ */
+public interface HashingStrategy<T> {
+  /**
+   * Returns the hash code of the given object.
+   *
+   * @param o the given object. It may be {@code null}.
+   * @return the hash code of the given object.
+   */
+  int hashCodeOf(@Nullable T o);
+
+  /**
+   * Indicates whether the given objects are equal.
+   *
+   * @param o1 one of the objects to compare. It may be {@code null}.
+   * @param o2 one of the objects to compare. It may be {@code null}.
+   * @return {@code true} if the given objects are equal.
+   */
+  boolean areEqual(@Nullable T o1, @Nullable T o2);
+}
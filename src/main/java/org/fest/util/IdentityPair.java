@@ -0,0 +1,48 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Two objects compared by identity, used to track which pairs of objects are being compared. Cycles in object graphs
+ * can only be considered equal when the same pair is compared again: tracking only one of the objects of a pair would
+ * make the comparison depend on the order of its arguments.
+ *
+ * @author Alex Ruiz
+ */
+final class IdentityPair {
+  private final Object first;
+  private final Object second;
+
+  IdentityPair(@Nullable Object first, @Nullable Object second) {
+    this.first = first;
+    this.second = second;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof IdentityPair)) {
+      return false;
+    }
+    IdentityPair other = (IdentityPair) obj;
+    return first == other.first && second == other.second;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * System.identityHashCode(first) + System.identityHashCode(second);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Immutable {@code List} backed directly by an array that holds exactly its elements. It allows {@code null} elements
+ * and, since it never changes, it is safe to share between threads.
+ *
+ * @param <E> the type of elements.
+ * @author Alex Ruiz
+ */
+final class ImmutableArrayList<E> extends AbstractList<E> implements RandomAccess {
+  private final Object[] elements;
+
+  // the array must not be modified after it is passed to this list.
+  ImmutableArrayList(@NotNull Object[] elements) {
+    this.elements = elements;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public E get(int index) {
+    return (E) elements[index];
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public int indexOf(@Nullable Object o) {
+    for (int i = 0; i < elements.length; i++) {
+      if (java.util.Objects.equals(o, elements[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public @NotNull Object[] toArray() {
+    // elements may be an array of a subtype of Object, which toArray() must not return.
+    return java.util.Arrays.copyOf(elements, elements.length, Object[].class);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable {@code Set} that keeps its elements in an array, in the order they were first given, and finds them
+ * through an open-addressing hash table of indices into that array. It allows a {@code null} element and, since it
+ * never changes, it is safe to share between threads.
+ *
+ * @param <E> the type of elements.
+ * @author Alex Ruiz
+ */
+final class ImmutableArraySet<E> extends AbstractSet<E> {
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private final Object[] elements;
+  // index + 1 of the element hashed to each slot, zero for free slots.
+  private final int[] table;
+
+  /**
+   * Creates a new set with the given elements, ignoring the duplicates.
+   *
+   * @param elements the elements of the set. The array is not modified or kept.
+   */
+  ImmutableArraySet(@NotNull Object[] elements) {
+    int[] table = new int[capacityFor(elements.length)];
+    Object[] distinct = new Object[elements.length];
+    int size = 0;
+    for (Object e : elements) {
+      int slot = slotOf(e, table, distinct);
+      if (table[slot] == 0) {
+        distinct[size++] = e;
+        table[slot] = size;
+      }
+    }
+    this.elements = size == distinct.length ? distinct : java.util.Arrays.copyOf(distinct, size);
+    this.table = table;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    return table[slotOf(o, table, elements)] != 0;
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public @NotNull Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < elements.length;
+      }
+
+      @SuppressWarnings("unchecked")
+      @Override
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return (E) elements[next++];
+      }
+    };
+  }
+
+  @Override
+  public @NotNull Object[] toArray() {
+    // elements may be an array of a subtype of Object, which toArray() must not return.
+    return java.util.Arrays.copyOf(elements, elements.length, Object[].class);
+  }
+
+  // Returns the slot holding the index of the given element or, if it is not in the table, the free slot where its
+  // index would go.
+  private static int slotOf(@Nullable Object o, @NotNull int[] table, @NotNull Object[] elements) {
+    int mask = table.length - 1;
+    int h = o == null ? 0 : o.hashCode() * 0x9E3779B9;
+    int slot = (h ^ (h >>> 16)) & mask;
+    while (table[slot] != 0 && !java.util.Objects.equals(o, elements[table[slot] - 1])) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  // Large enough to keep the load factor at or below 0.5.
+  private static int capacityFor(int size) {
+    long capacity = Math.max(2, 2L * size);
+    return capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int) capacity - 1) << 1;
+  }
+}
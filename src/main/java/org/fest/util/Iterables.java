@@ -20,6 +20,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static java.util.Collections.emptyList;
 import static org.fest.util.Preconditions.checkNotNull;
@@ -33,6 +38,9 @@ import static org.fest.util.Preconditions.checkNotNull;
  */
 // TODO(alexRuiz): Get rid of this class.
 public final class Iterables {
+  private static final Consumer<Object> IGNORE = element -> {
+  };
+
   private Iterables() {
   }
 
@@ -53,24 +61,94 @@ public final class Iterables {
   }
 
   /**
-   * Returns the size of the given {@link Iterable}.
+   * Returns the size of the given {@link Iterable}. The elements are only counted if the size is not known in advance,
+   * like the size of a {@code Collection} or of an {@code Iterable} whose {@code Spliterator} is {@code SIZED}.
    *
    * @param iterable the {@link Iterable} to get size.
    * @return the size of the given {@link Iterable}.
    * @throws NullPointerException if given {@link Iterable} is null.
    */
   public static int sizeOf(@NotNull Iterable<?> iterable) {
+    return (int) Math.min(countUpTo(checkNotNull(iterable), Integer.MAX_VALUE), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Indicates whether the given {@link Iterable} has at least the given number of elements. Iteration stops as soon as
+   * that many elements are found, and does not happen at all if the size of the {@code Iterable} is known, like the
+   * size of a {@code Collection} or of an {@code Iterable} whose {@code Spliterator} is {@code SIZED}.
+   *
+   * @param iterable the given {@code Iterable}.
+   * @param size     the expected minimum size.
+   * @return {@code true} if the given {@code Iterable} has at least the given number of elements.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given size is negative.
+   * @since 1.3.0
+   */
+  public static boolean hasSizeAtLeast(@NotNull Iterable<?> iterable, long size) {
     checkNotNull(iterable);
-    if (iterable instanceof Collection) {
-      return ((Collection<?>) iterable).size();
+    checkSize(size);
+    return countUpTo(iterable, size) == size;
+  }
+
+  /**
+   * Indicates whether the given {@link Iterable} has at most the given number of elements. Iteration stops as soon as
+   * more elements are found, and does not happen at all if the size of the {@code Iterable} is known, like the size of
+   * a {@code Collection} or of an {@code Iterable} whose {@code Spliterator} is {@code SIZED}.
+   *
+   * @param iterable the given {@code Iterable}.
+   * @param size     the expected maximum size.
+   * @return {@code true} if the given {@code Iterable} has at most the given number of elements.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given size is negative.
+   * @since 1.3.0
+   */
+  public static boolean hasSizeAtMost(@NotNull Iterable<?> iterable, long size) {
+    checkNotNull(iterable);
+    checkSize(size);
+    return size == Long.MAX_VALUE || countUpTo(iterable, size + 1) <= size;
+  }
+
+  /**
+   * Indicates whether the given {@link Iterable} has exactly the given number of elements. Iteration stops as soon as
+   * more elements are found, and does not happen at all if the size of the {@code Iterable} is known, like the size of
+   * a {@code Collection} or of an {@code Iterable} whose {@code Spliterator} is {@code SIZED}.
+   *
+   * @param iterable the given {@code Iterable}.
+   * @param size     the expected size.
+   * @return {@code true} if the given {@code Iterable} has exactly the given number of elements.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given size is negative.
+   * @since 1.3.0
+   */
+  public static boolean hasSizeExactly(@NotNull Iterable<?> iterable, long size) {
+    checkNotNull(iterable);
+    checkSize(size);
+    long limit = size == Long.MAX_VALUE ? size : size + 1;
+    return countUpTo(iterable, limit) == size;
+  }
+
+  private static void checkSize(long size) {
+    if (size < 0) {
+      String msg = String.format("The size should not be negative, but was <%d>", size);
+      throw new IllegalArgumentException(msg);
+    }
+  }
+
+  // Counts the elements of the given Iterable, stopping at the given limit. Sizes known in advance are not counted.
+  private static long countUpTo(@NotNull Iterable<?> iterable, long limit) {
+    if (iterable instanceof Collection<?>) {
+      return Math.min(((Collection<?>) iterable).size(), limit);
     }
-    int size = 0;
-    Iterator<?> iterator = iterable.iterator();
-    while (iterator.hasNext()) {
-      size++;
-      iterator.next();
+    Spliterator<?> spliterator = iterable.spliterator();
+    long knownSize = spliterator.getExactSizeIfKnown();
+    if (knownSize >= 0) {
+      return Math.min(knownSize, limit);
     }
-    return size;
+    long count = 0;
+    while (count < limit && spliterator.tryAdvance(IGNORE)) {
+      count++;
+    }
+    return count;
   }
 
   /**
@@ -83,15 +161,351 @@ public final class Iterables {
    * @since 1.1.3
    */
   public static <T> List<T> nonNullElementsIn(@NotNull Iterable<T> i) {
-    if (isNullOrEmpty(i)) {
+    if (i == null) {
+      return emptyList();
+    }
+    // iterates only once, so it also works with Iterables that can be iterated only once.
+    Iterator<T> elements = i.iterator();
+    if (!elements.hasNext()) {
       return emptyList();
     }
     List<T> nonNull = new ArrayList<T>();
-    for (T element : i) {
+    while (elements.hasNext()) {
+      T element = elements.next();
       if (element != null) {
         nonNull.add(element);
       }
     }
     return nonNull;
   }
+
+  /**
+   * Returns an {@code Iterable} that reads the given one only once, buffering its elements as they are first read, so
+   * that iterating more than once does not read the given {@code Iterable} again. It is meant for {@code Iterable}s
+   * that are expensive to iterate, or that can be iterated only once, like cursors or generators. Nothing is read until
+   * the returned {@code Iterable} is iterated, and all the elements read are buffered.
+   *
+   * @param <T>      the type of elements.
+   * @param elements the given {@code Iterable}.
+   * @return an {@code Iterable} that reads the given one only once.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Iterable<T> memoize(@NotNull Iterable<T> elements) {
+    return memoize(elements, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns an {@code Iterable} that reads the given one only once, buffering at most the given number of its elements
+   * as they are first read. Iterations that stay within the buffer replay it. Once an iteration reads past the buffer,
+   * the buffer stops growing and that iteration continues reading the given {@code Iterable}; any other iteration that
+   * needs elements past the buffer then fails with an {@code IllegalStateException}, instead of returning fewer
+   * elements.
+   *
+   * @param <T>               the type of elements.
+   * @param elements          the given {@code Iterable}.
+   * @param maximumBufferSize the maximum number of elements to buffer.
+   * @return an {@code Iterable} that reads the given one only once.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given buffer size is negative.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Iterable<T> memoize(@NotNull Iterable<T> elements, int maximumBufferSize) {
+    checkNotNull(elements);
+    checkNotNegative(maximumBufferSize, "maximum buffer size");
+    if (elements instanceof MemoizingIterable<?>) {
+      return elements;
+    }
+    return new MemoizingIterable<T>(elements, maximumBufferSize);
+  }
+
+  /**
+   * Returns a lazy view of the elements of the given {@code Iterable} that satisfy the given predicate. Elements are
+   * tested while iterating, so nothing is copied, and iteration can stop at any time.
+   *
+   * @param <T>       the type of elements.
+   * @param elements  the given {@code Iterable}.
+   * @param predicate the condition elements have to satisfy.
+   * @return a view of the elements that satisfy the given predicate.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Iterable<T> filter(@NotNull Iterable<T> elements,
+                                                @NotNull Predicate<? super T> predicate) {
+    checkNotNull(elements);
+    checkNotNull(predicate);
+    return () -> new FilteringIterator<T>(elements.iterator(), predicate);
+  }
+
+  /**
+   * Returns a lazy view of the elements of the given {@code Iterable} that are instances of the given type.
+   *
+   * @param <T>      the type of elements to keep.
+   * @param elements the given {@code Iterable}.
+   * @param type     the type of elements to keep.
+   * @return a view of the elements that are instances of the given type.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  @SuppressWarnings("unchecked")
+  public static @NotNull <T> Iterable<T> filter(@NotNull Iterable<?> elements, @NotNull Class<T> type) {
+    checkNotNull(type);
+    return (Iterable<T>) filter((Iterable<Object>) checkNotNull(elements), type::isInstance);
+  }
+
+  /**
+   * Returns a lazy view of the results of applying the given function to each element of the given {@code Iterable}.
+   * The function is applied while iterating, every time an element is returned.
+   *
+   * @param <F>      the type of elements of the given {@code Iterable}.
+   * @param <T>      the type of elements of the view.
+   * @param elements the given {@code Iterable}.
+   * @param function the function to apply to each element.
+   * @return a view of the transformed elements.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <F, T> Iterable<T> transform(@NotNull Iterable<F> elements,
+                                                      @NotNull Function<? super F, ? extends T> function) {
+    checkNotNull(elements);
+    checkNotNull(function);
+    return () -> new TransformingIterator<F, T>(elements.iterator(), function);
+  }
+
+  /**
+   * Returns a lazy view of the elements of the given {@code Iterable}s, one after the other. The {@code Iterable}s are
+   * not iterated until the view is.
+   *
+   * @param <T>       the type of elements.
+   * @param iterables the given {@code Iterable}s.
+   * @return a view of the elements of all the given {@code Iterable}s.
+   * @throws NullPointerException if the given array, or any of the {@code Iterable}s in it, is {@code null}.
+   * @since 1.3.0
+   */
+  @SafeVarargs
+  public static @NotNull <T> Iterable<T> concat(@NotNull Iterable<? extends T>... iterables) {
+    // the view captures an immutable copy, the varargs array itself is only read here.
+    List<Iterable<? extends T>> copy = new ArrayList<Iterable<? extends T>>(iterables.length);
+    for (Iterable<? extends T> iterable : iterables) {
+      copy.add(checkNotNull(iterable));
+    }
+    List<Iterable<? extends T>> view = java.util.Collections.unmodifiableList(copy);
+    return () -> new ConcatenatingIterator<T>(view.iterator());
+  }
+
+  /**
+   * Returns a lazy view of, at most, the first elements of the given {@code Iterable}. Iteration stops after the given
+   * number of elements, without reading any further element.
+   *
+   * @param <T>      the type of elements.
+   * @param elements the given {@code Iterable}.
+   * @param limit    the maximum number of elements of the view.
+   * @return a view of, at most, the given number of elements.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given limit is negative.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Iterable<T> limit(@NotNull Iterable<T> elements, int limit) {
+    checkNotNull(elements);
+    checkNotNegative(limit, "limit");
+    return () -> new LimitingIterator<T>(elements.iterator(), limit);
+  }
+
+  /**
+   * Returns a lazy view of the elements of the given {@code Iterable} after the given number of elements. The skipped
+   * elements are read, but not returned, when the view is iterated. If the given {@code Iterable} is a {@code List},
+   * they are not read at all.
+   *
+   * @param <T>      the type of elements.
+   * @param elements the given {@code Iterable}.
+   * @param count    the number of elements to skip.
+   * @return a view of the elements after the skipped ones.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given count is negative.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Iterable<T> skip(@NotNull Iterable<T> elements, int count) {
+    checkNotNull(elements);
+    checkNotNegative(count, "number of elements to skip");
+    if (elements instanceof List<?>) {
+      List<T> list = (List<T>) elements;
+      return () -> list.listIterator(Math.min(count, list.size()));
+    }
+    return () -> {
+      Iterator<T> iterator = elements.iterator();
+      for (int i = 0; i < count && iterator.hasNext(); i++) {
+        iterator.next();
+      }
+      return iterator;
+    };
+  }
+
+  /**
+   * Returns a lazy view of the elements of the given {@code Iterable} in consecutive lists of the given size. The last
+   * list may be smaller. Each list is created when the view returns it, and only holds the elements of one partition.
+   *
+   * @param <T>      the type of elements.
+   * @param elements the given {@code Iterable}.
+   * @param size     the size of each partition.
+   * @return a view of the partitions of the given {@code Iterable}.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @throws IllegalArgumentException if the given size is not greater than zero.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Iterable<List<T>> partition(@NotNull Iterable<T> elements, int size) {
+    checkNotNull(elements);
+    if (size <= 0) {
+      String msg = String.format("The size of a partition should be greater than zero, but was <%d>", size);
+      throw new IllegalArgumentException(msg);
+    }
+    return () -> new PartitioningIterator<T>(elements.iterator(), size);
+  }
+
+  private static void checkNotNegative(int value, @NotNull String description) {
+    if (value < 0) {
+      String msg = String.format("The %s should not be negative, but was <%d>", description, value);
+      throw new IllegalArgumentException(msg);
+    }
+  }
+
+  private static class FilteringIterator<T> implements Iterator<T> {
+    private final Iterator<T> elements;
+    private final Predicate<? super T> predicate;
+    private T next;
+    private boolean hasNext;
+
+    FilteringIterator(@NotNull Iterator<T> elements, @NotNull Predicate<? super T> predicate) {
+      this.elements = elements;
+      this.predicate = predicate;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!hasNext && elements.hasNext()) {
+        T element = elements.next();
+        if (predicate.test(element)) {
+          next = element;
+          hasNext = true;
+        }
+      }
+      return hasNext;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T result = next;
+      next = null;
+      hasNext = false;
+      return result;
+    }
+  }
+
+  private static class TransformingIterator<F, T> implements Iterator<T> {
+    private final Iterator<F> elements;
+    private final Function<? super F, ? extends T> function;
+
+    TransformingIterator(@NotNull Iterator<F> elements, @NotNull Function<? super F, ? extends T> function) {
+      this.elements = elements;
+      this.function = function;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return elements.hasNext();
+    }
+
+    @Override
+    public T next() {
+      return function.apply(elements.next());
+    }
+
+    @Override
+    public void remove() {
+      elements.remove();
+    }
+  }
+
+  private static class ConcatenatingIterator<T> implements Iterator<T> {
+    private final Iterator<Iterable<? extends T>> iterables;
+    private Iterator<? extends T> current = java.util.Collections.emptyIterator();
+
+    ConcatenatingIterator(@NotNull Iterator<Iterable<? extends T>> iterables) {
+      this.iterables = iterables;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!current.hasNext() && iterables.hasNext()) {
+        current = iterables.next().iterator();
+      }
+      return current.hasNext();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return current.next();
+    }
+  }
+
+  private static class LimitingIterator<T> implements Iterator<T> {
+    private final Iterator<T> elements;
+    private int remaining;
+
+    LimitingIterator(@NotNull Iterator<T> elements, int limit) {
+      this.elements = elements;
+      this.remaining = limit;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0 && elements.hasNext();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+      return elements.next();
+    }
+
+    @Override
+    public void remove() {
+      elements.remove();
+    }
+  }
+
+  private static class PartitioningIterator<T> implements Iterator<List<T>> {
+    private final Iterator<T> elements;
+    private final int size;
+
+    PartitioningIterator(@NotNull Iterator<T> elements, int size) {
+      this.elements = elements;
+      this.size = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return elements.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<T> partition = new ArrayList<T>(Math.min(size, 16));
+      while (partition.size() < size && elements.hasNext()) {
+        partition.add(elements.next());
+      }
+      return partition;
+    }
+  }
 }
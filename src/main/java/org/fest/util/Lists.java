@@ -16,6 +16,7 @@ package org.fest.util;
 
 import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -42,24 +43,27 @@ public final class Lists {
    * @throws NullPointerException if the given array is {@code null}.
    */
   public static @NotNull <T> ArrayList<T> newArrayList(@NotNull T... elements) {
-    checkNotNull(elements);
-    ArrayList<T> list = newArrayList();
-    for (T e : elements) {
-      list.add(e);
-    }
+    // copies the array once, Arrays.asList would be copied again by the ArrayList constructor.
+    ArrayList<T> list = new ArrayList<T>(checkNotNull(elements).length);
+    Collections.addAll(list, elements);
     return list;
   }
 
   /**
-   * Creates a <em>mutable</em> {@link ArrayList} containing the given elements.
+   * Creates a <em>mutable</em> {@link ArrayList} containing the given elements. If the given {@code Iterable} is a
+   * {@code Collection}, its elements are copied in bulk into an {@code ArrayList} of the right size.
    *
    * @param <T>      the generic type of the {@code ArrayList} to create.
    * @param elements the elements to store in the {@code ArrayList}.
    * @return the created {@code ArrayList}.
    * @throws NullPointerException if the given {@code Iterable} is {@code null}.
    */
+  @SuppressWarnings("unchecked")
   public static @NotNull <T> ArrayList<T> newArrayList(@NotNull Iterable<? extends T> elements) {
     checkNotNull(elements);
+    if (elements instanceof Collection<?>) {
+      return new ArrayList<T>((Collection<? extends T>) elements);
+    }
     ArrayList<T> list = newArrayList();
     for (T e : elements) {
       list.add(e);
@@ -84,6 +88,43 @@ public final class Lists {
     return list;
   }
 
+  /**
+   * Creates a <em>mutable</em>, empty {@link ArrayList} that can hold the given number of elements without growing.
+   *
+   * @param <T>             the generic type of the {@code ArrayList} to create.
+   * @param initialCapacity the number of elements the {@code ArrayList} can hold without growing.
+   * @return the created {@code ArrayList}.
+   * @throws IllegalArgumentException if the given capacity is negative.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> ArrayList<T> newArrayListWithCapacity(int initialCapacity) {
+    if (initialCapacity < 0) {
+      String msg = String.format("The initial capacity should not be negative, but was <%d>", initialCapacity);
+      throw new IllegalArgumentException(msg);
+    }
+    return new ArrayList<T>(initialCapacity);
+  }
+
+  /**
+   * Creates an <em>immutable</em> {@code List} containing the given elements, in order. The {@code List} is backed by a
+   * copy of the given array, so it has no more overhead than the array itself, and it is safe to share between threads
+   * and to keep in constants. {@code null} elements are allowed.
+   *
+   * @param <T>      the generic type of the {@code List} to create.
+   * @param elements the elements to store in the {@code List}.
+   * @return the created {@code List}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @since 1.3.0
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs") // the array is only read, to copy its elements.
+  public static @NotNull <T> List<T> of(@NotNull T... elements) {
+    if (checkNotNull(elements).length == 0) {
+      return Collections.emptyList();
+    }
+    return new ImmutableArrayList<T>(elements.clone());
+  }
+
   /**
    * Creates a <em>mutable</em> {@link ArrayList}.
    *
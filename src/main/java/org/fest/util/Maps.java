@@ -24,6 +24,7 @@ import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.ToString.toStringOf;
 
 /**
@@ -45,6 +46,19 @@ public class Maps {
     return new HashMap<K, V>();
   }
 
+  /**
+   * Returns a <em>mutable</em>, empty {@code HashMap} that can hold the given number of entries without rehashing,
+   * taking into account its default load factor.
+   *
+   * @param expectedSize the number of entries the {@code Map} can hold without rehashing.
+   * @return the created {@code Map}.
+   * @throws IllegalArgumentException if the given size is negative.
+   * @since 1.3.0
+   */
+  public static @NotNull <K, V> Map<K, V> newHashMapWithExpectedSize(int expectedSize) {
+    return new HashMap<K, V>(capacityFor(expectedSize));
+  }
+
   /**
    * Returns a <em>mutable</em> {@code ConcurrentMap}.
    *
@@ -54,6 +68,31 @@ public class Maps {
     return new ConcurrentHashMap<K, V>();
   }
 
+  /**
+   * Returns a <em>mutable</em>, concurrent {@code Map} that compares its keys by identity ({@code ==}) instead of
+   * {@code equals}, like an {@code IdentityHashMap} that can be shared between threads. Reads do not take any lock.
+   * {@code null} keys and values are not allowed.
+   *
+   * @return the created {@code Map}.
+   * @since 1.3.0
+   */
+  public static @NotNull <K, V> ConcurrentMap<K, V> newConcurrentIdentityHashMap() {
+    return new ConcurrentIdentityHashMap<K, V>(false);
+  }
+
+  /**
+   * Returns a <em>mutable</em>, concurrent {@code Map} that compares its keys by identity ({@code ==}) and only holds
+   * them through weak references: an entry is removed once its key is garbage collected. Unlike a {@code WeakHashMap},
+   * it can be shared between threads without synchronization, and reads do not take any lock, which makes it a good
+   * fit for metadata kept per {@code Class} or per instance. {@code null} keys and values are not allowed.
+   *
+   * @return the created {@code Map}.
+   * @since 1.3.0
+   */
+  public static @NotNull <K, V> ConcurrentMap<K, V> newConcurrentWeakIdentityHashMap() {
+    return new ConcurrentIdentityHashMap<K, V>(true);
+  }
+
   /**
    * Returns a <em>mutable</em> {@code WeakHashMap}.
    *
@@ -63,6 +102,76 @@ public class Maps {
     return new WeakHashMap<K, V>();
   }
 
+  /**
+   * Returns a <em>mutable</em>, concurrent {@link Cache} that keeps at most the given number of entries, evicting the
+   * least recently used one when it is full.
+   *
+   * @param maximumSize the maximum number of entries.
+   * @return the created {@code Cache}.
+   * @throws IllegalArgumentException if the given size is not greater than zero.
+   * @since 1.3.0
+   */
+  public static @NotNull <K, V> Cache<K, V> newCache(int maximumSize) {
+    return newCache(CacheSpec.maximumSize(maximumSize));
+  }
+
+  /**
+   * Returns a <em>mutable</em>, concurrent {@link Cache} with the given settings.
+   *
+   * @param spec the settings of the {@code Cache}.
+   * @return the created {@code Cache}.
+   * @throws NullPointerException if the given settings are {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <K, V> Cache<K, V> newCache(@NotNull CacheSpec spec) {
+    return new Cache<K, V>(checkNotNull(spec));
+  }
+
+  /**
+   * Returns a <em>mutable</em>, hash-based {@code Map} that compares its keys with
+   * {@link Objects#areEqual(Object, Object)} and hashes them with {@link Objects#deepHashCodeFor(Object)}. Unlike a
+   * {@code HashMap}, it considers arrays having equal elements to be the same key.
+   *
+   * @return the created {@code Map}.
+   * @since 1.3.0
+   */
+  public static @NotNull <K, V> Map<K, V> newDeepHashMap() {
+    return newHashMap(HashingStrategies.<K>deep());
+  }
+
+  /**
+   * Returns a <em>mutable</em>, hash-based {@code Map} that compares and hashes its keys with the given strategy,
+   * instead of their own {@code equals} and {@code hashCode}. Keys are stored as they are, without any wrapper.
+   *
+   * @param strategy how to compare and hash the keys.
+   * @return the created {@code Map}.
+   * @throws NullPointerException if the given strategy is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <K, V> Map<K, V> newHashMap(@NotNull HashingStrategy<? super K> strategy) {
+    return new StrategyHashMap<K, V>(strategy);
+  }
+
+  /**
+   * Returns the initial capacity that lets a {@code HashMap}, or a {@code HashSet}, hold the given number of entries
+   * without rehashing, with the default load factor of 0.75.
+   *
+   * @param expectedSize the number of entries to hold.
+   * @return the initial capacity to use.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  static int capacityFor(int expectedSize) {
+    if (expectedSize < 0) {
+      String msg = String.format("The expected size should not be negative, but was <%d>", expectedSize);
+      throw new IllegalArgumentException(msg);
+    }
+    if (expectedSize < 3) {
+      return expectedSize + 1;
+    }
+    // the cast saturates to Integer.MAX_VALUE for sizes that cannot be reached with a 0.75 load factor.
+    return (int) (expectedSize / 0.75f + 1.0f);
+  }
+
   /**
    * Indicates whether the given {@code Map} is {@code null} or empty.
    *
@@ -0,0 +1,104 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code Iterable} that reads its source only once, buffering the elements as they are first read, so that later
+ * passes replay them instead of reading the source again. The source's {@code iterator()} is called at most once, and
+ * only when an element is first needed.
+ * <p>
+ * At most {@code maximumBufferSize} elements are buffered. Once an iteration reads past that limit the buffer stops
+ * growing, and that iteration keeps reading directly from the source: new iterations fail, and iterations that fall
+ * behind fail when they reach the end of the buffer, instead of silently returning fewer elements. This class is not
+ * thread-safe.
+ * </p>
+ *
+ * @param <T> the type of elements.
+ * @author Alex Ruiz
+ */
+final class MemoizingIterable<T> implements Iterable<T> {
+  private final Iterable<T> source;
+  private final int maximumBufferSize;
+  private final List<T> buffer = new ArrayList<T>();
+  private Iterator<T> sourceIterator;
+  // the only iterator that can continue once the source was read past the end of the buffer.
+  private Iterator<T> spilledIterator;
+
+  MemoizingIterable(@NotNull Iterable<T> source, int maximumBufferSize) {
+    this.source = source;
+    this.maximumBufferSize = maximumBufferSize;
+  }
+
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    if (spilledIterator != null) {
+      throw spilled();
+    }
+    return new MemoizingIterator();
+  }
+
+  private @NotNull IllegalStateException spilled() {
+    String msg = String.format("The source was read past the buffer limit of <%d> elements, and cannot be read again",
+        maximumBufferSize);
+    return new IllegalStateException(msg);
+  }
+
+  private @NotNull Iterator<T> sourceIterator() {
+    if (sourceIterator == null) {
+      sourceIterator = source.iterator();
+    }
+    return sourceIterator;
+  }
+
+  private class MemoizingIterator implements Iterator<T> {
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      if (index < buffer.size()) {
+        return true;
+      }
+      if (spilledIterator != null && spilledIterator != this) {
+        throw spilled();
+      }
+      return sourceIterator().hasNext();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (index < buffer.size()) {
+        return buffer.get(index++);
+      }
+      T element = sourceIterator.next();
+      if (buffer.size() < maximumBufferSize) {
+        buffer.add(element);
+        index++;
+      } else {
+        spilledIterator = this;
+      }
+      return element;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.fest.util.Objects.HASH_CODE_PRIME;
+import static org.fest.util.Objects.areEqual;
+import static org.fest.util.Objects.deepHashCodeFor;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.ToString.toStringOf;
+
+/**
+ * The first difference found between two objects: where it is, and the two values found there.
+ * <p>
+ * The path is empty if the objects themselves are different, otherwise it is made of an index for each element of an
+ * array or {@code List} (like {@code [3][17]}), a quoted key for each value of a {@code Map} (like
+ * {@code ['zip']}), and a name for each field of an object (like {@code .address.zip}). Sizes that do not match are
+ * reported as {@code .length} for arrays and {@code .size} for {@code List}s. A key found in only one {@code Map} is
+ * reported as the value of that key, with {@code null} on the side of the {@code Map} without the key.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @see Objects#firstMismatchBetween(Object, Object)
+ * @since 1.3.0
+ */
+public final class Mismatch {
+  private final String path;
+  private final Object left;
+  private final Object right;
+
+  Mismatch(@NotNull String path, @Nullable Object left, @Nullable Object right) {
+    this.path = checkNotNull(path);
+    this.left = left;
+    this.right = right;
+  }
+
+  /**
+   * @return where the difference is. It is empty if the compared objects themselves are different.
+   */
+  public @NotNull String path() {
+    return path;
+  }
+
+  /**
+   * @return the value found at {@link #path()} in the first of the compared objects.
+   */
+  public @Nullable Object left() {
+    return left;
+  }
+
+  /**
+   * @return the value found at {@link #path()} in the second of the compared objects.
+   */
+  public @Nullable Object right() {
+    return right;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    Mismatch other = (Mismatch) obj;
+    return path.equals(other.path) && areEqual(left, other.left) && areEqual(right, other.right);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = HASH_CODE_PRIME * result + path.hashCode();
+    // consistent with areEqual, which compares arrays element by element.
+    result = HASH_CODE_PRIME * result + deepHashCodeFor(left);
+    result = HASH_CODE_PRIME * result + deepHashCodeFor(right);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %s != %s", path.isEmpty() ? "(root)" : path, toStringOf(left), toStringOf(right));
+  }
+}
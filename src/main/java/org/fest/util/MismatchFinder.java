@@ -0,0 +1,267 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import static org.fest.util.Arrays.isArray;
+import static org.fest.util.ToString.toStringOf;
+
+/**
+ * Finds the first difference between two objects, using the same notion of equality as
+ * {@link Objects#areEqual(Object, Object)}. The path to the difference is only built for the elements and fields that
+ * are actually visited, and primitive arrays are scanned without boxing their elements.
+ *
+ * @author Alex Ruiz
+ */
+final class MismatchFinder {
+  @Nullable Mismatch find(@Nullable Object o1, @Nullable Object o2) {
+    return find(o1, o2, new StringBuilder(), new HashSet<IdentityPair>());
+  }
+
+  private @Nullable Mismatch find(@Nullable Object o1, @Nullable Object o2, @NotNull StringBuilder path,
+                                  @NotNull Set<IdentityPair> beingCompared) {
+    if (o1 == o2) {
+      return null;
+    }
+    if (o1 == null || o2 == null) {
+      return mismatch(path, o1, o2);
+    }
+    // only the same pair of objects compared again is a cycle, whatever the order of the arguments.
+    if (isArray(o1) && isArray(o2)) {
+      IdentityPair pair = new IdentityPair(o1, o2);
+      if (!beingCompared.add(pair)) {
+        return null;
+      }
+      Mismatch mismatch = findInArrays(o1, o2, path, beingCompared);
+      beingCompared.remove(pair);
+      return mismatch;
+    }
+    if (o1.equals(o2)) {
+      return null;
+    }
+    IdentityPair pair = new IdentityPair(o1, o2);
+    if (!beingCompared.add(pair)) {
+      return null;
+    }
+    Mismatch mismatch;
+    if (o1 instanceof List<?> && o2 instanceof List<?>) {
+      mismatch = findInLists((List<?>) o1, (List<?>) o2, path, beingCompared);
+    } else if (o1 instanceof Map<?, ?> && o2 instanceof Map<?, ?>) {
+      mismatch = findInMaps((Map<?, ?>) o1, (Map<?, ?>) o2, path, beingCompared);
+    } else if (o1.getClass() == o2.getClass() && hasComparableFields(o1.getClass())) {
+      mismatch = findInFields(o1, o2, path, beingCompared);
+    } else {
+      mismatch = null;
+    }
+    beingCompared.remove(pair);
+    // equals says they are different, even if none of their parts are.
+    return mismatch != null ? mismatch : mismatch(path, o1, o2);
+  }
+
+  private @Nullable Mismatch findInArrays(@NotNull Object o1, @NotNull Object o2, @NotNull StringBuilder path,
+                                          @NotNull Set<IdentityPair> beingCompared) {
+    int size1 = Array.getLength(o1);
+    int size2 = Array.getLength(o2);
+    int size = Math.min(size1, size2);
+    if (o1 instanceof Object[] && o2 instanceof Object[]) {
+      Object[] a1 = (Object[]) o1;
+      Object[] a2 = (Object[]) o2;
+      for (int i = 0; i < size; i++) {
+        Object e1 = a1[i];
+        Object e2 = a2[i];
+        if (e1 == e2 || (!isArray(e1) && e1 != null && e1.equals(e2))) {
+          continue;
+        }
+        Mismatch mismatch = findInElement(i, e1, e2, path, beingCompared);
+        if (mismatch != null) {
+          return mismatch;
+        }
+      }
+    } else if (o1.getClass() == o2.getClass()) {
+      int i = firstDifferenceBetweenPrimitiveArrays(o1, o2, size);
+      if (i < size) {
+        return mismatch(appendIndex(path, i), Array.get(o1, i), Array.get(o2, i));
+      }
+    } else {
+      // different component types, like int[] and Integer[]: elements can only be compared boxed.
+      for (int i = 0; i < size; i++) {
+        Mismatch mismatch = findInElement(i, Array.get(o1, i), Array.get(o2, i), path, beingCompared);
+        if (mismatch != null) {
+          return mismatch;
+        }
+      }
+    }
+    if (size1 != size2) {
+      int length = path.length();
+      path.append(".length");
+      Mismatch mismatch = mismatch(path, size1, size2);
+      path.setLength(length);
+      return mismatch;
+    }
+    return null;
+  }
+
+  private @Nullable Mismatch findInElement(int index, @Nullable Object e1, @Nullable Object e2,
+                                           @NotNull StringBuilder path, @NotNull Set<IdentityPair> beingCompared) {
+    int length = path.length();
+    Mismatch mismatch = find(e1, e2, appendIndex(path, index), beingCompared);
+    path.setLength(length);
+    return mismatch;
+  }
+
+  // Both arrays have the same primitive component type.
+  private static int firstDifferenceBetweenPrimitiveArrays(@NotNull Object o1, @NotNull Object o2, int size) {
+    int i = 0;
+    if (o1 instanceof int[]) {
+      int[] a1 = (int[]) o1;
+      int[] a2 = (int[]) o2;
+      while (i < size && a1[i] == a2[i]) {
+        i++;
+      }
+    } else if (o1 instanceof long[]) {
+      long[] a1 = (long[]) o1;
+      long[] a2 = (long[]) o2;
+      while (i < size && a1[i] == a2[i]) {
+        i++;
+      }
+    } else if (o1 instanceof double[]) {
+      double[] a1 = (double[]) o1;
+      double[] a2 = (double[]) o2;
+      while (i < size && Double.doubleToLongBits(a1[i]) == Double.doubleToLongBits(a2[i])) {
+        i++;
+      }
+    } else if (o1 instanceof float[]) {
+      float[] a1 = (float[]) o1;
+      float[] a2 = (float[]) o2;
+      while (i < size && Float.floatToIntBits(a1[i]) == Float.floatToIntBits(a2[i])) {
+        i++;
+      }
+    } else if (o1 instanceof byte[]) {
+      byte[] a1 = (byte[]) o1;
+      byte[] a2 = (byte[]) o2;
+      while (i < size && a1[i] == a2[i]) {
+        i++;
+      }
+    } else if (o1 instanceof short[]) {
+      short[] a1 = (short[]) o1;
+      short[] a2 = (short[]) o2;
+      while (i < size && a1[i] == a2[i]) {
+        i++;
+      }
+    } else if (o1 instanceof char[]) {
+      char[] a1 = (char[]) o1;
+      char[] a2 = (char[]) o2;
+      while (i < size && a1[i] == a2[i]) {
+        i++;
+      }
+    } else {
+      boolean[] a1 = (boolean[]) o1;
+      boolean[] a2 = (boolean[]) o2;
+      while (i < size && a1[i] == a2[i]) {
+        i++;
+      }
+    }
+    return i;
+  }
+
+  private @Nullable Mismatch findInLists(@NotNull List<?> l1, @NotNull List<?> l2, @NotNull StringBuilder path,
+                                         @NotNull Set<IdentityPair> beingCompared) {
+    Iterator<?> i1 = l1.iterator();
+    Iterator<?> i2 = l2.iterator();
+    int index = 0;
+    while (i1.hasNext() && i2.hasNext()) {
+      Object e1 = i1.next();
+      Object e2 = i2.next();
+      // same as List.equals, which is what Objects.areEqual calls for Lists.
+      if (!(e1 == null ? e2 == null : e1.equals(e2))) {
+        Mismatch mismatch = findInElement(index, e1, e2, path, beingCompared);
+        return mismatch != null ? mismatch : mismatch(appendIndex(path, index), e1, e2);
+      }
+      index++;
+    }
+    if (l1.size() != l2.size()) {
+      path.append(".size");
+      return mismatch(path, l1.size(), l2.size());
+    }
+    return null;
+  }
+
+  private @Nullable Mismatch findInMaps(@NotNull Map<?, ?> m1, @NotNull Map<?, ?> m2, @NotNull StringBuilder path,
+                                        @NotNull Set<IdentityPair> beingCompared) {
+    int length = path.length();
+    for (Entry<?, ?> entry : m1.entrySet()) {
+      Object key = entry.getKey();
+      Object v1 = entry.getValue();
+      if (!m2.containsKey(key)) {
+        return mismatch(appendKey(path, key), v1, null);
+      }
+      Object v2 = m2.get(key);
+      if (!(v1 == null ? v2 == null : v1.equals(v2))) {
+        Mismatch mismatch = find(v1, v2, appendKey(path, key), beingCompared);
+        if (mismatch == null) {
+          mismatch = mismatch(path, v1, v2);
+        }
+        path.setLength(length);
+        return mismatch;
+      }
+    }
+    for (Entry<?, ?> entry : m2.entrySet()) {
+      if (!m1.containsKey(entry.getKey())) {
+        return mismatch(appendKey(path, entry.getKey()), null, entry.getValue());
+      }
+    }
+    return null;
+  }
+
+  private @Nullable Mismatch findInFields(@NotNull Object o1, @NotNull Object o2, @NotNull StringBuilder path,
+                                          @NotNull Set<IdentityPair> beingCompared) {
+    int length = path.length();
+    for (FieldAccessor accessor : FieldAccessor.accessorsOf(o1.getClass())) {
+      path.append('.').append(accessor.name());
+      Mismatch mismatch = find(accessor.get(o1), accessor.get(o2), path, beingCompared);
+      path.setLength(length);
+      if (mismatch != null) {
+        return mismatch;
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasComparableFields(@NotNull Class<?> type) {
+    return !FieldAccessor.isJdkType(type) && !type.isEnum();
+  }
+
+  private static @NotNull StringBuilder appendIndex(@NotNull StringBuilder path, int index) {
+    return path.append('[').append(index).append(']');
+  }
+
+  private static @NotNull StringBuilder appendKey(@NotNull StringBuilder path, @Nullable Object key) {
+    return path.append('[').append(toStringOf(key)).append(']');
+  }
+
+  private static @NotNull Mismatch mismatch(@NotNull StringBuilder path, @Nullable Object o1, @Nullable Object o2) {
+    return new Mismatch(path.toString(), o1, o2);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+import static org.fest.util.Objects.HASH_CODE_PRIME;
+import static org.fest.util.Objects.areEqual;
+import static org.fest.util.Objects.hashCodeFor;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * The difference between two groups of elements compared in any order, counting how many times each element appears
+ * (as multisets): the elements expected but not found, and the elements found but not expected. An element expected
+ * twice and found once is missing once.
+ *
+ * @param <T> the type of the elements.
+ * @author Alex Ruiz
+ * @see Collections#differenceInAnyOrder(java.util.Collection, java.util.Collection)
+ * @since 1.3.0
+ */
+public final class MultisetDifference<T> {
+  private final List<T> missing;
+  private final List<T> unexpected;
+
+  MultisetDifference(@NotNull List<T> missing, @NotNull List<T> unexpected) {
+    this.missing = unmodifiableList(checkNotNull(missing));
+    this.unexpected = unmodifiableList(checkNotNull(unexpected));
+  }
+
+  /**
+   * @return the elements that were expected but not found, once for each missing occurrence. The returned list cannot
+   *         be modified.
+   */
+  public @NotNull List<T> missing() {
+    return missing;
+  }
+
+  /**
+   * @return the elements that were found but not expected, once for each unexpected occurrence. The returned list
+   *         cannot be modified.
+   */
+  public @NotNull List<T> unexpected() {
+    return unexpected;
+  }
+
+  /**
+   * @return {@code true} if no element is missing or unexpected, that is, if the compared groups have the same
+   *         elements.
+   */
+  public boolean isEmpty() {
+    return missing.isEmpty() && unexpected.isEmpty();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    MultisetDifference<?> other = (MultisetDifference<?>) obj;
+    return areEqual(missing, other.missing) && areEqual(unexpected, other.unexpected);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = HASH_CODE_PRIME * result + hashCodeFor(missing);
+    result = HASH_CODE_PRIME * result + hashCodeFor(unexpected);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("missing: %s, unexpected: %s", Collections.format(missing), Collections.format(unexpected));
+  }
+}
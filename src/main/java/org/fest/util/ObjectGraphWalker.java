@@ -0,0 +1,348 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * Depth-first traversal of nested containers ({@code Object} arrays and {@code Iterable}s) that keeps its own stack
+ * instead of recursing, so nesting of any depth does not overflow the call stack. Containers already on the path from
+ * the root to the current element (cycles) are detected by identity and not entered again.
+ * <p>
+ * This is the traversal shared by deep equality, deep hashing and formatting. Walkers are not thread-safe, but they are
+ * cheap: the stack frames are reused, and the identity set used to detect cycles is only created for deep nesting.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class ObjectGraphWalker {
+  // up to this depth, cycles are detected by scanning the stack instead of creating an identity set.
+  private static final int MAX_DEPTH_WITHOUT_PATH_SET = 8;
+
+  private Frame[] frames = new Frame[MAX_DEPTH_WITHOUT_PATH_SET];
+  private int depth;
+  private Set<Object> path;
+  // the pairs of arrays being compared, only created for deep nesting.
+  private Set<IdentityPair> pairPath;
+
+  /**
+   * Callbacks of a traversal of a single object graph.
+   */
+  interface Visitor {
+    /**
+     * Indicates whether the given object is a container whose elements should be visited. Only {@code Object} arrays
+     * and {@code Iterable}s can be containers.
+     *
+     * @param o the given object.
+     * @return {@code true} if the elements of the given object should be visited.
+     */
+    boolean isContainer(@NotNull Object o);
+
+    /**
+     * Called before visiting the elements of the given container.
+     *
+     * @param container the container.
+     */
+    void enter(@NotNull Object container);
+
+    /**
+     * Called before visiting each element of the container being visited.
+     */
+    void beforeElement();
+
+    /**
+     * Called for {@code null} and for any object that is not a container.
+     *
+     * @param o the object.
+     */
+    void leaf(@Nullable Object o);
+
+    /**
+     * Called, instead of visiting the container again, for a container that is already being visited.
+     *
+     * @param container the container.
+     */
+    void cycle(@NotNull Object container);
+
+    /**
+     * Called after visiting the elements of the given container.
+     *
+     * @param container the container.
+     */
+    void exit(@NotNull Object container);
+  }
+
+  /**
+   * Compares the elements of two object graphs that are not both {@code Object} arrays.
+   */
+  interface LeafComparison {
+    /**
+     * Indicates whether the given elements are equal. They are not the same object, and they are not both
+     * {@code Object} arrays.
+     *
+     * @param o1 one of the elements to compare.
+     * @param o2 one of the elements to compare.
+     * @return {@code true} if the given elements are equal.
+     */
+    boolean areEqual(@Nullable Object o1, @Nullable Object o2);
+  }
+
+  /**
+   * Visits the given object and, if it is a container, everything nested in it.
+   *
+   * @param root    the object to visit.
+   * @param visitor the callbacks of the traversal.
+   */
+  void walk(@Nullable Object root, @NotNull Visitor visitor) {
+    if (root == null || !visitor.isContainer(root)) {
+      visitor.leaf(root);
+      return;
+    }
+    push(root, 0, Integer.MAX_VALUE);
+    visitor.enter(root);
+    walk(visitor, 0);
+  }
+
+  /**
+   * Visits the elements of the given array in the given range, and everything nested in them, without calling
+   * {@link Visitor#enter(Object)} and {@link Visitor#exit(Object)} for the array itself. The array is considered to be
+   * on the path, so elements nested in the range that refer back to it are reported as cycles.
+   *
+   * @param array   the array.
+   * @param from    the index of the first element to visit.
+   * @param to      the index after the last element to visit.
+   * @param visitor the callbacks of the traversal.
+   */
+  void walkElements(@NotNull Object[] array, int from, int to, @NotNull Visitor visitor) {
+    push(array, from, to);
+    walk(visitor, 1);
+  }
+
+  /**
+   * Visits the elements of the given list in the given range, and everything nested in them, the same way
+   * {@link #walkElements(Object[], int, int, Visitor)} does for arrays.
+   *
+   * @param list    the list.
+   * @param from    the index of the first element to visit.
+   * @param to      the index after the last element to visit.
+   * @param visitor the callbacks of the traversal.
+   */
+  void walkElements(@NotNull List<?> list, int from, int to, @NotNull Visitor visitor) {
+    push(list, from, to);
+    walk(visitor, 1);
+  }
+
+  private void walk(@NotNull Visitor visitor, int bottom) {
+    while (depth > 0) {
+      Frame frame = frames[depth - 1];
+      if (!frame.hasNext()) {
+        Object container = frame.container;
+        pop();
+        if (depth >= bottom) {
+          visitor.exit(container);
+        }
+        continue;
+      }
+      visitor.beforeElement();
+      Object element = frame.next();
+      if (element == null || !visitor.isContainer(element)) {
+        visitor.leaf(element);
+        continue;
+      }
+      if (isOnPath(element)) {
+        visitor.cycle(element);
+        continue;
+      }
+      push(element, 0, Integer.MAX_VALUE);
+      visitor.enter(element);
+    }
+  }
+
+  /**
+   * Indicates whether the given {@code Object} arrays, and all the {@code Object} arrays nested in them, have equal
+   * elements. Elements that are not both {@code Object} arrays are compared with the given comparison. Nested arrays
+   * are considered equal only if that same pair of arrays is already being compared (cycles in both graphs at the same
+   * place), so the comparison is symmetric.
+   *
+   * @param a1         one of the arrays to compare.
+   * @param a2         one of the arrays to compare.
+   * @param comparison compares elements that are not both {@code Object} arrays.
+   * @return {@code true} if the given arrays are equal.
+   */
+  boolean areEqual(@NotNull Object[] a1, @NotNull Object[] a2, @NotNull LeafComparison comparison) {
+    if (a1.length != a2.length) {
+      return false;
+    }
+    pushPair(a1, a2);
+    while (depth > 0) {
+      Frame frame = frames[depth - 1];
+      if (!frame.hasNext()) {
+        pop();
+        continue;
+      }
+      Object[] others = frame.other;
+      Object e2 = others[frame.index];
+      Object e1 = frame.next();
+      if (e1 == e2) {
+        continue;
+      }
+      if (e1 instanceof Object[] && e2 instanceof Object[]) {
+        Object[] nested1 = (Object[]) e1;
+        Object[] nested2 = (Object[]) e2;
+        if (nested1.length != nested2.length) {
+          return clear();
+        }
+        if (!isPairOnPath(nested1, nested2)) {
+          pushPair(nested1, nested2);
+        }
+        continue;
+      }
+      if (!comparison.areEqual(e1, e2)) {
+        return clear();
+      }
+    }
+    return true;
+  }
+
+  private @NotNull Frame push(@NotNull Object container, int from, int to) {
+    Frame frame = pushFrame(container, from, to);
+    if (path != null) {
+      path.add(container);
+    } else if (depth > MAX_DEPTH_WITHOUT_PATH_SET) {
+      path = newSetFromMap(new IdentityHashMap<Object, Boolean>());
+      for (int i = 0; i < depth; i++) {
+        path.add(frames[i].container);
+      }
+    }
+    return frame;
+  }
+
+  // The same array can be compared to different arrays at the same time, so only the pairs are tracked.
+  private void pushPair(@NotNull Object[] a1, @NotNull Object[] a2) {
+    pushFrame(a1, 0, a1.length).other = a2;
+    if (pairPath != null) {
+      pairPath.add(new IdentityPair(a1, a2));
+    } else if (depth > MAX_DEPTH_WITHOUT_PATH_SET) {
+      pairPath = new HashSet<IdentityPair>();
+      for (int i = 0; i < depth; i++) {
+        pairPath.add(new IdentityPair(frames[i].array, frames[i].other));
+      }
+    }
+  }
+
+  private @NotNull Frame pushFrame(@NotNull Object container, int from, int to) {
+    if (depth == frames.length) {
+      Frame[] newFrames = new Frame[depth << 1];
+      System.arraycopy(frames, 0, newFrames, 0, depth);
+      frames = newFrames;
+    }
+    Frame frame = frames[depth];
+    if (frame == null) {
+      frame = new Frame();
+      frames[depth] = frame;
+    }
+    frame.reset(container, from, to);
+    depth++;
+    return frame;
+  }
+
+  private void pop() {
+    Frame frame = frames[--depth];
+    if (frame.other != null) {
+      if (pairPath != null) {
+        pairPath.remove(new IdentityPair(frame.array, frame.other));
+      }
+    } else if (path != null) {
+      path.remove(frame.container);
+    }
+    frame.reset(null, 0, 0);
+  }
+
+  private boolean isOnPath(@NotNull Object container) {
+    if (path != null) {
+      return path.contains(container);
+    }
+    for (int i = 0; i < depth; i++) {
+      if (frames[i].container == container) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isPairOnPath(@NotNull Object[] a1, @NotNull Object[] a2) {
+    if (pairPath != null) {
+      return pairPath.contains(new IdentityPair(a1, a2));
+    }
+    for (int i = 0; i < depth; i++) {
+      Frame frame = frames[i];
+      if (frame.array == a1 && frame.other == a2) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Pops all the frames left after a comparison stops early, so the walker can be used again.
+  private boolean clear() {
+    while (depth > 0) {
+      pop();
+    }
+    return false;
+  }
+
+  private static class Frame {
+    Object container;
+    Object[] array;
+    Object[] other;
+    Iterator<?> iterator;
+    int index;
+    int end;
+
+    void reset(@Nullable Object container, int from, int to) {
+      this.container = container;
+      array = container instanceof Object[] ? (Object[]) container : null;
+      other = null;
+      iterator = container instanceof Iterable<?> ? iteratorOf((Iterable<?>) container, from, to) : null;
+      index = from;
+      end = array != null ? Math.min(to, array.length) : to;
+    }
+
+    private static @NotNull Iterator<?> iteratorOf(@NotNull Iterable<?> container, int from, int to) {
+      if (container instanceof List<?> && (from != 0 || to != Integer.MAX_VALUE)) {
+        List<?> list = (List<?>) container;
+        return list.subList(from, Math.min(to, list.size())).iterator();
+      }
+      return container.iterator();
+    }
+
+    boolean hasNext() {
+      return array != null ? index < end : iterator.hasNext();
+    }
+
+    @Nullable Object next() {
+      return array != null ? array[index++] : iterator.next();
+    }
+  }
+}
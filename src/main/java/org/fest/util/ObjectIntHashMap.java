@@ -0,0 +1,182 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.ObjIntConsumer;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Open-addressing hash table that counts occurrences of objects in {@code int}s, without boxing them. Keys are
+ * compared and hashed with a {@link HashingStrategy}, by default {@link HashingStrategies#deep()}, so arrays with equal
+ * elements are the same key. It allows a {@code null} key and is not thread-safe.
+ *
+ * @author Alex Ruiz
+ */
+final class ObjectIntHashMap {
+  private static final int MINIMUM_CAPACITY = 16;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+  // stands for the null key, so null can mark empty slots.
+  private static final Object NULL_KEY = new Object();
+
+  private final HashingStrategy<Object> strategy;
+  private Object[] keys;
+  private int[] counts;
+  private int size;
+  private int threshold;
+
+  ObjectIntHashMap() {
+    this(0);
+  }
+
+  ObjectIntHashMap(int expectedSize) {
+    this(HashingStrategies.deep(), expectedSize);
+  }
+
+  @SuppressWarnings("unchecked")
+  ObjectIntHashMap(@NotNull HashingStrategy<?> strategy, int expectedSize) {
+    this.strategy = (HashingStrategy<Object>) checkNotNull(strategy);
+    if (expectedSize < 0) {
+      String msg = String.format("The expected size should not be negative, but was <%d>", expectedSize);
+      throw new IllegalArgumentException(msg);
+    }
+    // large enough to hold the expected number of keys without resizing, with a 0.5 load factor.
+    long capacity = Math.max(MINIMUM_CAPACITY, 2L * expectedSize);
+    allocate(capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int) capacity - 1) << 1);
+  }
+
+  /**
+   * @return the number of distinct keys, including the ones whose count went back to zero.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the count of the given key.
+   *
+   * @param key the given key.
+   * @return the count of the given key, or zero if it was never counted.
+   */
+  int get(@Nullable Object key) {
+    int index = indexOf(maskNull(key));
+    return keys[index] != null ? counts[index] : 0;
+  }
+
+  /**
+   * Adds the given amount to the count of the given key.
+   *
+   * @param key   the given key.
+   * @param delta the amount to add.
+   * @return the new count of the given key.
+   */
+  int add(@Nullable Object key, int delta) {
+    Object k = maskNull(key);
+    int index = indexOf(k);
+    if (keys[index] == null) {
+      keys[index] = k;
+      if (++size > threshold) {
+        resize();
+        index = indexOf(k);
+      }
+    }
+    counts[index] += delta;
+    return counts[index];
+  }
+
+  /**
+   * Decrements the count of the given key, unless it is zero or the key was never counted.
+   *
+   * @param key the given key.
+   * @return {@code true} if the count was decremented.
+   */
+  boolean decrementIfPositive(@Nullable Object key) {
+    int index = indexOf(maskNull(key));
+    if (keys[index] == null || counts[index] == 0) {
+      return false;
+    }
+    counts[index]--;
+    return true;
+  }
+
+  /**
+   * Calls the given action with each key and its count, in no particular order.
+   *
+   * @param action the action to call.
+   */
+  void forEach(@NotNull ObjIntConsumer<Object> action) {
+    Object[] k = keys;
+    int[] c = counts;
+    for (int i = 0; i < k.length; i++) {
+      if (k[i] != null) {
+        action.accept(k[i] == NULL_KEY ? null : k[i], c[i]);
+      }
+    }
+  }
+
+  // Returns the slot of the given key, or the empty slot where it would be inserted.
+  private int indexOf(Object key) {
+    int mask = keys.length - 1;
+    int index = hash(key) & mask;
+    while (true) {
+      Object k = keys[index];
+      if (k == null || k == key || areEqualKeys(k, key)) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private void resize() {
+    Object[] oldKeys = keys;
+    int[] oldCounts = counts;
+    if (oldKeys.length == MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("The maximum number of keys has been reached");
+    }
+    allocate(oldKeys.length << 1);
+    for (int i = 0; i < oldKeys.length; i++) {
+      Object key = oldKeys[i];
+      if (key != null) {
+        int index = indexOf(key);
+        keys[index] = key;
+        counts[index] = oldCounts[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new Object[capacity];
+    counts = new int[capacity];
+    threshold = capacity >> 1;
+  }
+
+  private int hash(Object key) {
+    int h = key == NULL_KEY ? 0 : strategy.hashCodeOf(key);
+    // spreads the high bits, since the table size is a power of two and probing is linear.
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private boolean areEqualKeys(Object key1, Object key2) {
+    return key1 != NULL_KEY && key2 != NULL_KEY && strategy.areEqual(key1, key2);
+  }
+
+  private static Object maskNull(@Nullable Object key) {
+    return key == null ? NULL_KEY : key;
+  }
+}
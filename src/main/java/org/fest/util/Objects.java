@@ -14,10 +14,13 @@
  */
 package org.fest.util;
 
+import org.fest.util.primitive.IntHashSet;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Array;
+import java.util.Set;
 
+import static java.util.Collections.emptySet;
 import static org.fest.util.Arrays.isArray;
 import static org.fest.util.Preconditions.checkNotNull;
 
@@ -33,11 +36,17 @@ public final class Objects {
    */
   public static final int HASH_CODE_PRIME = 31;
 
+  private static final FieldByFieldEquality FIELD_BY_FIELD_EQUALITY = new FieldByFieldEquality();
+  private static final MismatchFinder MISMATCH_FINDER = new MismatchFinder();
+  private static final ParallelEquality PARALLEL_EQUALITY = new ParallelEquality(ParallelEquality.DEFAULT_THRESHOLD);
+
   private Objects() {
   }
 
   /**
-   * Indicates whether the given objects are equal.
+   * Indicates whether the given objects are equal. Arrays are equal if they have equal elements; nested arrays are
+   * compared without recursion, so they can be nested at any depth, and an array that contains itself is equal to an
+   * array that has the same structure.
    *
    * @param o1 one of the objects to compare.
    * @param o2 one of the objects to compare.
@@ -53,6 +62,38 @@ public final class Objects {
     return areEqualArrays(o1, o2);
   }
 
+  /**
+   * Indicates whether the given objects are equal, comparing large arrays and random-access {@code List}s in parallel.
+   * Contiguous chunks of them are compared on the common fork-join pool, and the comparison stops as soon as a chunk
+   * finds a difference. Smaller values, and values of any other type, are compared sequentially. The result is the same
+   * as the one of {@link #areEqual(Object, Object)}.
+   *
+   * @param o1 one of the objects to compare.
+   * @param o2 one of the objects to compare.
+   * @return {@code true} if the given objects are equal or if both objects are {@code null}.
+   * @since 1.3.0
+   */
+  public static boolean areEqualInParallel(@Nullable Object o1, @Nullable Object o2) {
+    return PARALLEL_EQUALITY.areEqual(o1, o2);
+  }
+
+  /**
+   * Indicates whether the given objects are equal, comparing arrays and random-access {@code List}s having at least the
+   * given number of elements in parallel. Contiguous chunks of them are compared on the common fork-join pool, and the
+   * comparison stops as soon as a chunk finds a difference. Smaller values, and values of any other type, are compared
+   * sequentially. The result is the same as the one of {@link #areEqual(Object, Object)}.
+   *
+   * @param o1        one of the objects to compare.
+   * @param o2        one of the objects to compare.
+   * @param threshold the minimum number of elements to compare in parallel.
+   * @return {@code true} if the given objects are equal or if both objects are {@code null}.
+   * @throws IllegalArgumentException if the given threshold is not greater than zero.
+   * @since 1.3.0
+   */
+  public static boolean areEqualInParallel(@Nullable Object o1, @Nullable Object o2, int threshold) {
+    return new ParallelEquality(threshold).areEqual(o1, o2);
+  }
+
   private static boolean areEqualArrays(@Nullable Object o1, @Nullable Object o2) {
     if (!isArray(o1) || !isArray(o2)) {
       return false;
@@ -60,6 +101,48 @@ public final class Objects {
     if (o1 == o2) {
       return true;
     }
+    if (o1 instanceof Object[] && o2 instanceof Object[]) {
+      return areEqualArrays((Object[]) o1, (Object[]) o2);
+    }
+    if (o1.getClass() == o2.getClass()) {
+      return areEqualPrimitiveArrays(o1, o2);
+    }
+    return areEqualElementByElement(o1, o2);
+  }
+
+  private static boolean areEqualArrays(@NotNull Object[] a1, @NotNull Object[] a2) {
+    // nested Object arrays are compared by the walker, any other element by areEqual.
+    return new ObjectGraphWalker().areEqual(a1, a2, Objects::areEqual);
+  }
+
+  // Both arrays have the same primitive component type.
+  private static boolean areEqualPrimitiveArrays(@NotNull Object o1, @NotNull Object o2) {
+    if (o1 instanceof int[]) {
+      return java.util.Arrays.equals((int[]) o1, (int[]) o2);
+    }
+    if (o1 instanceof long[]) {
+      return java.util.Arrays.equals((long[]) o1, (long[]) o2);
+    }
+    if (o1 instanceof double[]) {
+      return java.util.Arrays.equals((double[]) o1, (double[]) o2);
+    }
+    if (o1 instanceof float[]) {
+      return java.util.Arrays.equals((float[]) o1, (float[]) o2);
+    }
+    if (o1 instanceof byte[]) {
+      return java.util.Arrays.equals((byte[]) o1, (byte[]) o2);
+    }
+    if (o1 instanceof short[]) {
+      return java.util.Arrays.equals((short[]) o1, (short[]) o2);
+    }
+    if (o1 instanceof char[]) {
+      return java.util.Arrays.equals((char[]) o1, (char[]) o2);
+    }
+    return java.util.Arrays.equals((boolean[]) o1, (boolean[]) o2);
+  }
+
+  // Arrays of different component types, like int[] and Integer[]: their elements can only be compared boxed.
+  private static boolean areEqualElementByElement(@NotNull Object o1, @NotNull Object o2) {
     int size = Array.getLength(o1);
     if (Array.getLength(o2) != size) {
       return false;
@@ -74,6 +157,66 @@ public final class Objects {
     return true;
   }
 
+  /**
+   * Indicates whether the given objects are of the same class and have equal values in all their instance fields,
+   * including the ones declared in superclasses. Field values whose class does not override {@code equals} are compared
+   * field by field as well, any other value is compared with {@link #areEqual(Object, Object)}. Values of primitive
+   * fields are compared without boxing them, like {@code Double.equals} and {@code Float.equals} do. Objects of JDK
+   * classes, like {@code String}s and arrays, are compared with {@code areEqual}.
+   * <p>
+   * The fields of a class are looked up only once, so comparing many objects of the same class does not repeat any
+   * reflective lookup.
+   * </p>
+   *
+   * @param o1 one of the objects to compare.
+   * @param o2 one of the objects to compare.
+   * @return {@code true} if the given objects have equal values in all their fields, or if both are {@code null}.
+   * @throws IntrospectionError if the value of a field cannot be read.
+   * @since 1.3.0
+   */
+  public static boolean areEqualFieldByField(@Nullable Object o1, @Nullable Object o2) {
+    Set<String> allFields = emptySet();
+    return FIELD_BY_FIELD_EQUALITY.areEqual(o1, o2, allFields, allFields);
+  }
+
+  /**
+   * Indicates whether the given objects are of the same class and have equal values in the given fields, like
+   * {@link #areEqualFieldByField(Object, Object)} does. Only the fields of the given objects are selected by name;
+   * the fields of their field values are all compared.
+   *
+   * @param o1             one of the objects to compare.
+   * @param o2             one of the objects to compare.
+   * @param includedFields the names of the fields to compare. If empty, all the fields are compared.
+   * @param excludedFields the names of the fields not to compare, even if they are included.
+   * @return {@code true} if the given objects have equal values in the selected fields, or if both are {@code null}.
+   * @throws NullPointerException     if any of the given {@code Set}s of names is {@code null}.
+   * @throws IllegalArgumentException if the class of the given objects has no field with one of the included names.
+   * @throws IntrospectionError       if the value of a field cannot be read.
+   * @since 1.3.0
+   */
+  public static boolean areEqualFieldByField(@Nullable Object o1, @Nullable Object o2,
+                                             @NotNull Set<String> includedFields,
+                                             @NotNull Set<String> excludedFields) {
+    return FIELD_BY_FIELD_EQUALITY.areEqual(o1, o2, checkNotNull(includedFields), checkNotNull(excludedFields));
+  }
+
+  /**
+   * Returns the first difference between the given objects, so failure messages can show only the part of them that is
+   * different. Arrays are compared element by element, like {@link #areEqual(Object, Object)} does, and so are
+   * {@code List}s, {@code Map}s and objects of the same class that are not equal, to locate the difference. For
+   * example, comparing two arrays of arrays returns a path like {@code [3][17]}, and comparing two objects returns a
+   * path like {@code .address.zip}.
+   *
+   * @param o1 one of the objects to compare.
+   * @param o2 one of the objects to compare.
+   * @return the first difference between the given objects, or {@code null} if they are equal.
+   * @throws IntrospectionError if the value of a field cannot be read.
+   * @since 1.3.0
+   */
+  public static @Nullable Mismatch firstMismatchBetween(@Nullable Object o1, @Nullable Object o2) {
+    return MISMATCH_FINDER.find(o1, o2);
+  }
+
   /**
    * Returns an array containing the names of the given types.
    *
@@ -101,6 +244,61 @@ public final class Objects {
     return o != null ? o.hashCode() : 0;
   }
 
+  /**
+   * Returns a hash code for the given object that is consistent with {@link #areEqual(Object, Object)}: objects that
+   * are equal according to {@code areEqual} have the same hash code, even if they are arrays. The hash code of an array
+   * is calculated from its elements, like {@code java.util.Arrays.deepHashCode} does, and elements of arrays of
+   * primitives are not boxed. An array of primitives has the same hash code as an array of their wrappers. Any other
+   * object has the hash code returned by {@link #hashCodeFor(Object)}.
+   * <p>
+   * Arrays that contain themselves, directly or not, are equal to arrays that repeat the same cycle starting at a
+   * different depth, so their hash code only depends on the distinct lengths of the arrays and the distinct hash codes
+   * of the elements found in them.
+   * </p>
+   *
+   * @param o the given object.
+   * @return the hash code for the given object.
+   * @since 1.3.0
+   */
+  public static int deepHashCodeFor(@Nullable Object o) {
+    if (o instanceof Object[]) {
+      DeepHashCode hashCode = new DeepHashCode();
+      ObjectGraphWalker walker = new ObjectGraphWalker();
+      walker.walk(o, hashCode);
+      if (!hashCode.cyclic) {
+        return hashCode.result;
+      }
+      CyclicHashCode cyclicHashCode = new CyclicHashCode();
+      walker.walk(o, cyclicHashCode);
+      return cyclicHashCode.values.hashCode();
+    }
+    if (!isArray(o)) {
+      return hashCodeFor(o);
+    }
+    if (o instanceof int[]) {
+      return java.util.Arrays.hashCode((int[]) o);
+    }
+    if (o instanceof long[]) {
+      return java.util.Arrays.hashCode((long[]) o);
+    }
+    if (o instanceof double[]) {
+      return java.util.Arrays.hashCode((double[]) o);
+    }
+    if (o instanceof float[]) {
+      return java.util.Arrays.hashCode((float[]) o);
+    }
+    if (o instanceof byte[]) {
+      return java.util.Arrays.hashCode((byte[]) o);
+    }
+    if (o instanceof short[]) {
+      return java.util.Arrays.hashCode((short[]) o);
+    }
+    if (o instanceof char[]) {
+      return java.util.Arrays.hashCode((char[]) o);
+    }
+    return java.util.Arrays.hashCode((boolean[]) o);
+  }
+
   /**
    * Casts the given object to the given type only if the object is of the given type. If the object is not of the given
    * type, this method returns {@code null}.
@@ -116,4 +314,87 @@ public final class Objects {
     }
     return null;
   }
+
+  // Combines hash codes like java.util.Arrays.deepHashCode, keeping one partial result per nested array being visited.
+  // Only meaningful if no array contains itself.
+  private static class DeepHashCode implements ObjectGraphWalker.Visitor {
+    private int[] partialResults = new int[8];
+    private int depth;
+    int result;
+    boolean cyclic;
+
+    @Override
+    public boolean isContainer(@NotNull Object o) {
+      return o instanceof Object[];
+    }
+
+    @Override
+    public void enter(@NotNull Object container) {
+      if (depth == partialResults.length) {
+        partialResults = java.util.Arrays.copyOf(partialResults, depth << 1);
+      }
+      partialResults[depth++] = 1;
+    }
+
+    @Override
+    public void beforeElement() {
+    }
+
+    @Override
+    public void leaf(@Nullable Object o) {
+      add(deepHashCodeFor(o));
+    }
+
+    @Override
+    public void cycle(@NotNull Object container) {
+      cyclic = true;
+    }
+
+    @Override
+    public void exit(@NotNull Object container) {
+      int hashCode = partialResults[--depth];
+      if (depth == 0) {
+        result = hashCode;
+        return;
+      }
+      add(hashCode);
+    }
+
+    private void add(int hashCode) {
+      partialResults[depth - 1] = HASH_CODE_PRIME * partialResults[depth - 1] + hashCode;
+    }
+  }
+
+  // Collects what is the same in any unfolding of a cyclic graph: the lengths of the arrays and the hash codes of their
+  // elements, without their positions.
+  private static class CyclicHashCode implements ObjectGraphWalker.Visitor {
+    final IntHashSet values = new IntHashSet();
+
+    @Override
+    public boolean isContainer(@NotNull Object o) {
+      return o instanceof Object[];
+    }
+
+    @Override
+    public void enter(@NotNull Object container) {
+      values.add(HASH_CODE_PRIME * ((Object[]) container).length + 1);
+    }
+
+    @Override
+    public void beforeElement() {
+    }
+
+    @Override
+    public void leaf(@Nullable Object o) {
+      values.add(deepHashCodeFor(o));
+    }
+
+    @Override
+    public void cycle(@NotNull Object container) {
+    }
+
+    @Override
+    public void exit(@NotNull Object container) {
+    }
+  }
 }
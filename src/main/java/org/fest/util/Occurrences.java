@@ -0,0 +1,154 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * How many times each distinct element appears in a group of elements. Counts are kept as {@code int}s in a hash
+ * table, never as {@code Integer}s, so counting tens of millions of elements does not create an object per element.
+ *
+ * @param <T> the type of the elements.
+ * @author Alex Ruiz
+ * @see Collections#occurrencesIn(Iterable)
+ * @see Collections#occurrencesInParallel(Stream)
+ * @since 1.3.0
+ */
+public final class Occurrences<T> {
+  // ConcurrentHashMap does not allow null keys.
+  private static final Object NULL_ELEMENT = new Object();
+  private static final Function<Object, AtomicInteger> NEW_COUNTER = element -> new AtomicInteger();
+
+  private final ObjectIntHashMap counts;
+  private final long totalCount;
+
+  private Occurrences(@NotNull ObjectIntHashMap counts, long totalCount) {
+    this.counts = counts;
+    this.totalCount = totalCount;
+  }
+
+  static @NotNull <T> Occurrences<T> count(@NotNull Iterator<? extends T> elements,
+                                           @NotNull HashingStrategy<? super T> strategy, int expectedSize) {
+    ObjectIntHashMap counts = new ObjectIntHashMap(strategy, expectedSize);
+    long totalCount = 0;
+    while (elements.hasNext()) {
+      counts.add(elements.next(), 1);
+      totalCount++;
+    }
+    return new Occurrences<T>(counts, totalCount);
+  }
+
+  static @NotNull <T> Occurrences<T> countInParallel(@NotNull Stream<? extends T> elements) {
+    final ConcurrentHashMap<Object, AtomicInteger> concurrentCounts = new ConcurrentHashMap<Object, AtomicInteger>();
+    elements.parallel().forEach(e -> {
+      Object key = e == null ? NULL_ELEMENT : e;
+      // a plain get first: computeIfAbsent may lock even when the key is present.
+      AtomicInteger count = concurrentCounts.get(key);
+      if (count == null) {
+        count = concurrentCounts.computeIfAbsent(key, NEW_COUNTER);
+      }
+      count.incrementAndGet();
+    });
+    ObjectIntHashMap counts = new ObjectIntHashMap(HashingStrategies.natural(), concurrentCounts.size());
+    long totalCount = 0;
+    for (Map.Entry<Object, AtomicInteger> entry : concurrentCounts.entrySet()) {
+      Object key = entry.getKey();
+      int count = entry.getValue().get();
+      counts.add(key == NULL_ELEMENT ? null : key, count);
+      totalCount += count;
+    }
+    return new Occurrences<T>(counts, totalCount);
+  }
+
+  /**
+   * Returns how many times the given element appears.
+   *
+   * @param element the given element.
+   * @return how many times the given element appears, or zero if it does not appear.
+   */
+  public int countOf(@Nullable Object element) {
+    return counts.get(element);
+  }
+
+  /**
+   * @return the number of distinct elements.
+   */
+  public int distinctCount() {
+    return counts.size();
+  }
+
+  /**
+   * @return the number of elements counted, including repeated ones.
+   */
+  public long totalCount() {
+    return totalCount;
+  }
+
+  /**
+   * @return the elements that appear more than once, in no particular order.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull List<T> duplicates() {
+    final List<T> duplicates = new ArrayList<T>();
+    counts.forEach((element, count) -> {
+      if (count > 1) {
+        duplicates.add((T) element);
+      }
+    });
+    return duplicates;
+  }
+
+  /**
+   * Calls the given action with each distinct element and the number of times it appears, in no particular order.
+   * Counts are passed as {@code int}s, without boxing them.
+   *
+   * @param action the action to call.
+   * @throws NullPointerException if the given action is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(@NotNull ObjIntConsumer<? super T> action) {
+    counts.forEach((ObjIntConsumer<Object>) checkNotNull(action));
+  }
+
+  /**
+   * @return a new {@code Map} from each distinct element to the number of times it appears. Unlike this object, the
+   *         returned {@code Map} boxes the counts, and compares its keys with their own {@code equals}.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull Map<T, Integer> toMap() {
+    final Map<T, Integer> map = new LinkedHashMap<T, Integer>();
+    counts.forEach((element, count) -> map.put((T) element, count));
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return checkNotNull(Maps.format(toMap()));
+  }
+}
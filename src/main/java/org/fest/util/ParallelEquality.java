@@ -0,0 +1,302 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Compares large arrays and random-access {@code List}s by comparing contiguous chunks of them on a
+ * {@link ForkJoinPool}. As soon as a chunk finds a difference, the chunks not started yet are cancelled and the running
+ * ones stop. The result is the same as the one of {@link Objects#areEqual(Object, Object)}.
+ *
+ * @author Alex Ruiz
+ */
+final class ParallelEquality {
+  static final int DEFAULT_THRESHOLD = 1 << 16;
+
+  // how many elements a chunk compares between checks for a difference found by another chunk.
+  private static final int CHECK_INTERVAL = 1 << 10;
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  ParallelEquality(int threshold) {
+    this(ForkJoinPool.commonPool(), threshold);
+  }
+
+  ParallelEquality(@NotNull ForkJoinPool pool, int threshold) {
+    if (threshold <= 0) {
+      String msg = String.format("The threshold should be greater than zero, but was <%d>", threshold);
+      throw new IllegalArgumentException(msg);
+    }
+    this.pool = checkNotNull(pool);
+    this.threshold = threshold;
+  }
+
+  boolean areEqual(@Nullable Object o1, @Nullable Object o2) {
+    if (o1 == o2) {
+      return true;
+    }
+    if (o1 == null || o2 == null) {
+      return false;
+    }
+    if (o1 instanceof Object[] && o2 instanceof Object[]) {
+      Object[] a1 = (Object[]) o1;
+      Object[] a2 = (Object[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> areEqual(a1, a2, from, to, stop));
+    }
+    if (o1 instanceof List<?> && o1 instanceof RandomAccess && o2 instanceof List<?> && o2 instanceof RandomAccess) {
+      List<?> l1 = (List<?>) o1;
+      List<?> l2 = (List<?>) o2;
+      return l1.size() == l2.size() && areEqual(l1.size(), (from, to, stop) -> areEqual(l1, l2, from, to, stop));
+    }
+    if (o1.getClass() != o2.getClass() || !o1.getClass().isArray()) {
+      return Objects.areEqual(o1, o2);
+    }
+    return areEqualPrimitiveArrays(o1, o2);
+  }
+
+  private boolean areEqualPrimitiveArrays(@NotNull Object o1, @NotNull Object o2) {
+    if (o1 instanceof int[]) {
+      int[] a1 = (int[]) o1;
+      int[] a2 = (int[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+        for (int i = from; i < to; i++) {
+          if (a1[i] != a2[i] || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+    if (o1 instanceof long[]) {
+      long[] a1 = (long[]) o1;
+      long[] a2 = (long[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+        for (int i = from; i < to; i++) {
+          if (a1[i] != a2[i] || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+    if (o1 instanceof double[]) {
+      double[] a1 = (double[]) o1;
+      double[] a2 = (double[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+        for (int i = from; i < to; i++) {
+          // same as Double.equals: NaN is equal to itself, 0.0 is not equal to -0.0.
+          if (Double.doubleToLongBits(a1[i]) != Double.doubleToLongBits(a2[i])
+              || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+    if (o1 instanceof float[]) {
+      float[] a1 = (float[]) o1;
+      float[] a2 = (float[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+        for (int i = from; i < to; i++) {
+          if (Float.floatToIntBits(a1[i]) != Float.floatToIntBits(a2[i])
+              || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+    if (o1 instanceof byte[]) {
+      byte[] a1 = (byte[]) o1;
+      byte[] a2 = (byte[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+        for (int i = from; i < to; i++) {
+          if (a1[i] != a2[i] || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+    if (o1 instanceof short[]) {
+      short[] a1 = (short[]) o1;
+      short[] a2 = (short[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+        for (int i = from; i < to; i++) {
+          if (a1[i] != a2[i] || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+    if (o1 instanceof char[]) {
+      char[] a1 = (char[]) o1;
+      char[] a2 = (char[]) o2;
+      return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+        for (int i = from; i < to; i++) {
+          if (a1[i] != a2[i] || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+            return false;
+          }
+        }
+        return true;
+      });
+    }
+    boolean[] a1 = (boolean[]) o1;
+    boolean[] a2 = (boolean[]) o2;
+    return a1.length == a2.length && areEqual(a1.length, (from, to, stop) -> {
+      for (int i = from; i < to; i++) {
+        if (a1[i] != a2[i] || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+          return false;
+        }
+      }
+      return true;
+    });
+  }
+
+  private static boolean areEqual(@NotNull Object[] a1, @NotNull Object[] a2, int from, int to,
+                                  @NotNull AtomicBoolean stop) {
+    for (int i = from; i < to; i++) {
+      if (!Objects.areEqual(a1[i], a2[i]) || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // same as List.equals, which is what Objects.areEqual calls for Lists.
+  private static boolean areEqual(@NotNull List<?> l1, @NotNull List<?> l2, int from, int to,
+                                  @NotNull AtomicBoolean stop) {
+    for (int i = from; i < to; i++) {
+      Object e1 = l1.get(i);
+      Object e2 = l2.get(i);
+      if (!(e1 == null ? e2 == null : e1.equals(e2)) || ((i & (CHECK_INTERVAL - 1)) == 0 && stop.get())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Both sequences have the given size.
+  private boolean areEqual(int size, @NotNull RangeComparison comparison) {
+    if (size < threshold) {
+      return comparison.areEqual(0, size, new AtomicBoolean());
+    }
+    // never 0, even for a threshold of 1.
+    int chunkSize = Math.max(1, Math.max(threshold / 2, size / (pool.getParallelism() * 4)));
+    int chunkCount = (int) (((long) size + chunkSize - 1) / chunkSize);
+    CompareChunk[] chunks = new CompareChunk[chunkCount];
+    AtomicBoolean differenceFound = new AtomicBoolean();
+    for (int i = 0; i < chunkCount; i++) {
+      int from = i * chunkSize;
+      chunks[i] = new CompareChunk(comparison, from, Math.min(from + chunkSize, size), differenceFound, chunks);
+    }
+    return pool.invoke(new CompareChunks(chunks, differenceFound));
+  }
+
+  /**
+   * Compares the elements in a range of two sequences.
+   */
+  private interface RangeComparison {
+    /**
+     * Indicates whether the elements in the given range are equal. Implementations should return {@code false} early
+     * once the given flag is set.
+     *
+     * @param from the index of the first element to compare.
+     * @param to   the index after the last element to compare.
+     * @param stop set once a difference has been found anywhere in the sequences.
+     * @return {@code true} if the elements in the given range are equal.
+     */
+    boolean areEqual(int from, int to, @NotNull AtomicBoolean stop);
+  }
+
+  private static class CompareChunks extends RecursiveTask<Boolean> {
+    private static final long serialVersionUID = 1L;
+
+    private final CompareChunk[] chunks;
+    private final AtomicBoolean differenceFound;
+
+    CompareChunks(@NotNull CompareChunk[] chunks, @NotNull AtomicBoolean differenceFound) {
+      this.chunks = chunks;
+      this.differenceFound = differenceFound;
+    }
+
+    @Override
+    protected Boolean compute() {
+      for (int i = chunks.length - 1; i > 0; i--) {
+        chunks[i].fork();
+      }
+      boolean equal = true;
+      for (int i = 0; i < chunks.length && equal; i++) {
+        try {
+          equal = i == 0 ? chunks[0].invoke() : chunks[i].join();
+        } catch (CancellationException e) {
+          // only cancelled by a chunk that found a difference.
+          equal = false;
+        }
+      }
+      return equal && !differenceFound.get();
+    }
+  }
+
+  private static class CompareChunk extends RecursiveTask<Boolean> {
+    private static final long serialVersionUID = 1L;
+
+    private final RangeComparison comparison;
+    private final int from;
+    private final int to;
+    private final AtomicBoolean differenceFound;
+    private final CompareChunk[] siblings;
+
+    CompareChunk(@NotNull RangeComparison comparison, int from, int to, @NotNull AtomicBoolean differenceFound,
+                 @NotNull CompareChunk[] siblings) {
+      this.comparison = comparison;
+      this.from = from;
+      this.to = to;
+      this.differenceFound = differenceFound;
+      this.siblings = siblings;
+    }
+
+    @Override
+    protected Boolean compute() {
+      if (differenceFound.get()) {
+        return false;
+      }
+      if (comparison.areEqual(from, to, differenceFound)) {
+        return true;
+      }
+      if (differenceFound.compareAndSet(false, true)) {
+        for (CompareChunk sibling : siblings) {
+          if (sibling != this) {
+            sibling.cancel(false);
+          }
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Creates the {@code String} representation of a very large sequence of elements by formatting contiguous chunks of it
+ * on a {@link ForkJoinPool} and joining the partial results in order. The result is the same as formatting the whole
+ * sequence in a single thread.
+ *
+ * @author Alex Ruiz
+ */
+final class ParallelFormatter {
+  static final int DEFAULT_CHUNK_SIZE = 8192;
+
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  ParallelFormatter() {
+    this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  ParallelFormatter(@NotNull ForkJoinPool pool, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException(String.format("The chunk size should be greater than zero, but was <%d>",
+          chunkSize));
+    }
+    this.pool = checkNotNull(pool);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Formats a sequence of elements as {@code "[e1, e2, ...]"}.
+   *
+   * @param size     the number of elements in the sequence.
+   * @param elements formats ranges of elements.
+   * @return the {@code String} representation of the sequence.
+   */
+  @NotNull String format(int size, @NotNull ElementsFormatter elements) {
+    if (size <= chunkSize) {
+      StringBuilder buffer = new StringBuilder().append('[');
+      elements.appendElements(0, size, buffer);
+      return buffer.append(']').toString();
+    }
+    int chunkCount = (size + chunkSize - 1) / chunkSize;
+    StringBuilder[] chunks = new StringBuilder[chunkCount];
+    List<FormatChunk> tasks = new ArrayList<FormatChunk>(chunkCount);
+    for (int i = 0; i < chunkCount; i++) {
+      int from = i * chunkSize;
+      tasks.add(new FormatChunk(elements, from, Math.min(from + chunkSize, size), chunks, i));
+    }
+    pool.invoke(new FormatChunks(tasks));
+    long length = 2 + 2L * (chunkCount - 1);
+    for (StringBuilder chunk : chunks) {
+      length += chunk.length();
+    }
+    StringBuilder buffer = new StringBuilder((int) Math.min(length, Integer.MAX_VALUE - 8));
+    buffer.append('[');
+    for (int i = 0; i < chunkCount; i++) {
+      if (i != 0) {
+        buffer.append(", ");
+      }
+      buffer.append(chunks[i]);
+    }
+    return buffer.append(']').toString();
+  }
+
+  /**
+   * Formats ranges of elements of a sequence.
+   */
+  interface ElementsFormatter {
+    /**
+     * Appends the representation of the elements in the given range, separated by {@code ", "}. This method may be
+     * called concurrently for different ranges.
+     *
+     * @param from   the index of the first element to format.
+     * @param to     the index after the last element to format.
+     * @param buffer where to append the representation of the elements.
+     */
+    void appendElements(int from, int to, @NotNull StringBuilder buffer);
+  }
+
+  private static class FormatChunks extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final List<FormatChunk> tasks;
+
+    FormatChunks(@NotNull List<FormatChunk> tasks) {
+      this.tasks = tasks;
+    }
+
+    @Override
+    protected void compute() {
+      invokeAll(tasks);
+    }
+  }
+
+  private static class FormatChunk extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final ElementsFormatter elements;
+    private final int from;
+    private final int to;
+    private final StringBuilder[] chunks;
+    private final int index;
+
+    FormatChunk(@NotNull ElementsFormatter elements, int from, int to, @NotNull StringBuilder[] chunks, int index) {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.chunks = chunks;
+      this.index = index;
+    }
+
+    @Override
+    protected void compute() {
+      StringBuilder buffer = new StringBuilder();
+      elements.appendElements(from, to, buffer);
+      // invokeAll happens-before the join in format, so the write is visible to the calling thread.
+      chunks[index] = buffer;
+    }
+  }
+}
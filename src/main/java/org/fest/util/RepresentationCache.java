@@ -0,0 +1,174 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded memo of the {@code String} representations of values whose representation never changes: {@code Class}es,
+ * {@code Enum}s, {@code Comparator}s (represented by the name of their type), {@code String}s, {@code Boolean}s and the
+ * boxed integral values in the range [-128, 127]. To use it, pass it to
+ * {@link ToString#useRepresentationCache(RepresentationCache)}.
+ * <p>
+ * Values are looked up by identity, and are only weakly referenced: the cache never prevents a class from being
+ * unloaded. The cache has a fixed number of slots, and a new representation simply replaces the one stored in its slot.
+ * Reads and writes do not take any lock, so the cache can be shared by many threads.
+ * </p>
+ * <p>
+ * Any {@code String} is cached, not only interned ones. Since lookups are by identity, only the same {@code String}
+ * instance finds its representation again, so the cache pays off for literals and other constants, while
+ * {@code String}s created on every call only take slots away from other values.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.3.0
+ */
+public final class RepresentationCache {
+  private final AtomicReferenceArray<Entry> entries;
+  private final int mask;
+  // LongAdders, so that threads sharing the cache do not contend on the counters.
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * Creates a new {@link RepresentationCache}.
+   *
+   * @param capacity the maximum number of representations to keep. It is rounded up to the next power of two.
+   * @return the created cache.
+   * @throws IllegalArgumentException if the given capacity is not greater than zero, or greater than 2<sup>30</sup>.
+   */
+  public static @NotNull RepresentationCache withCapacity(int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      String msg = String.format("The capacity should be between 1 and 2^30, but was <%d>", capacity);
+      throw new IllegalArgumentException(msg);
+    }
+    return new RepresentationCache(Integer.highestOneBit(capacity - 1) << 1);
+  }
+
+  private RepresentationCache(int capacity) {
+    int size = Math.max(capacity, 1);
+    entries = new AtomicReferenceArray<Entry>(size);
+    mask = size - 1;
+  }
+
+  /**
+   * Indicates whether the representation of the given object can be kept in a {@link RepresentationCache}.
+   *
+   * @param o the given object.
+   * @return {@code true} if the representation of the given object never changes, {@code false} otherwise.
+   */
+  static boolean isCacheable(@Nullable Object o) {
+    if (o instanceof Class<?> || o instanceof Enum<?> || o instanceof Comparator<?> || o instanceof String
+        || o instanceof Boolean) {
+      return true;
+    }
+    if (o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) {
+      long value = ((Number) o).longValue();
+      return value >= -128 && value <= 127;
+    }
+    return o instanceof Character && (Character) o <= 127;
+  }
+
+  /**
+   * Returns the representation of the given object, if cached.
+   *
+   * @param o the given object.
+   * @return the representation of the given object, or {@code null} if it is not cached.
+   */
+  @Nullable String get(@NotNull Object o) {
+    Entry entry = entries.get(indexOf(o));
+    if (entry != null && entry.get() == o) {
+      hitCount.increment();
+      return entry.representation;
+    }
+    missCount.increment();
+    return null;
+  }
+
+  /**
+   * Stores the representation of the given object, replacing whatever was stored in its slot.
+   *
+   * @param o              the given object.
+   * @param representation the representation of the given object.
+   */
+  void put(@NotNull Object o, @NotNull String representation) {
+    entries.lazySet(indexOf(o), new Entry(o, representation));
+  }
+
+  private int indexOf(@NotNull Object o) {
+    int h = System.identityHashCode(o);
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  /**
+   * Removes all the cached representations. The statistics are not reset.
+   */
+  public void clear() {
+    for (int i = 0; i < entries.length(); i++) {
+      entries.lazySet(i, null);
+    }
+  }
+
+  /**
+   * @return the maximum number of representations this cache can keep.
+   */
+  public int capacity() {
+    return entries.length();
+  }
+
+  /**
+   * @return how many times a representation was found in this cache.
+   */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return how many times a representation was not found in this cache.
+   */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the ratio of lookups that found a representation in this cache, or {@code 1.0} if there were no lookups.
+   */
+  public double hitRate() {
+    long hits = hitCount();
+    long lookups = hits + missCount();
+    return lookups == 0 ? 1.0 : (double) hits / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[capacity=%d, hitCount=%d, missCount=%d]", getClass().getSimpleName(), capacity(),
+        hitCount(), missCount());
+  }
+
+  private static class Entry extends WeakReference<Object> {
+    final String representation;
+
+    Entry(@NotNull Object key, @NotNull String representation) {
+      super(key);
+      this.representation = representation;
+    }
+  }
+}
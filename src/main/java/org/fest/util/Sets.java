@@ -15,8 +15,10 @@
 package org.fest.util;
 
 import org.jetbrains.annotations.NotNull;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Set;
 
 import static java.util.Collections.addAll;
 import static org.fest.util.Preconditions.checkNotNull;
@@ -42,7 +44,8 @@ public final class Sets {
   }
 
   /**
-   * Creates a <em>mutable</em> {@code HashSet} containing the given elements.
+   * Creates a <em>mutable</em> {@code HashSet} containing the given elements. If the given {@code Iterable} is a
+   * {@code Collection}, its elements are copied in bulk into a {@code HashSet} sized to hold them without rehashing.
    *
    * @param <T>      the generic type of the {@code HashSet} to create.
    * @param elements the elements to store in the {@code HashSet}.
@@ -50,7 +53,11 @@ public final class Sets {
    * @throws NullPointerException if the given {@code Iterable} is {@code null}.
    * @since 1.2.3
    */
+  @SuppressWarnings("unchecked")
   public static @NotNull <T> HashSet<T> newHashSet(@NotNull Iterable<? extends T> elements) {
+    if (checkNotNull(elements) instanceof Collection<?>) {
+      return new HashSet<T>((Collection<? extends T>) elements);
+    }
     HashSet<T> set = newHashSet();
     for (T e : elements) {
       set.add(e);
@@ -58,6 +65,118 @@ public final class Sets {
     return set;
   }
 
+  /**
+   * Creates a <em>mutable</em>, empty {@code HashSet} that can hold the given number of elements without rehashing,
+   * taking into account its default load factor.
+   *
+   * @param <T>          the generic type of the {@code HashSet} to create.
+   * @param expectedSize the number of elements the {@code HashSet} can hold without rehashing.
+   * @return the created {@code HashSet}.
+   * @throws IllegalArgumentException if the given size is negative.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> HashSet<T> newHashSetWithExpectedSize(int expectedSize) {
+    return new HashSet<T>(Maps.capacityFor(expectedSize));
+  }
+
+  /**
+   * Creates a <em>mutable</em>, concurrent {@code Set} that compares its elements by identity ({@code ==}) instead of
+   * {@code equals}. Reads do not take any lock. {@code null} elements are not allowed.
+   *
+   * @param <T> the generic type of the {@code Set} to create.
+   * @return the created {@code Set}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Set<T> newConcurrentIdentityHashSet() {
+    return java.util.Collections.newSetFromMap(Maps.<T, Boolean>newConcurrentIdentityHashMap());
+  }
+
+  /**
+   * Creates a <em>mutable</em>, hash-based {@code Set} that compares its elements with
+   * {@link Objects#areEqual(Object, Object)} and hashes them with {@link Objects#deepHashCodeFor(Object)}. Unlike a
+   * {@code HashSet}, it considers arrays having equal elements to be the same element.
+   *
+   * @param <T> the generic type of the {@code Set} to create.
+   * @return the created {@code Set}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Set<T> newDeepHashSet() {
+    return new StrategyHashSet<T>(HashingStrategies.deep());
+  }
+
+  /**
+   * Creates a <em>mutable</em>, hash-based {@code Set} containing the given elements. It compares its elements with
+   * {@link Objects#areEqual(Object, Object)} and hashes them with {@link Objects#deepHashCodeFor(Object)}. Unlike a
+   * {@code HashSet}, it considers arrays having equal elements to be the same element.
+   *
+   * @param <T>      the generic type of the {@code Set} to create.
+   * @param elements the elements to store in the {@code Set}.
+   * @return the created {@code Set}.
+   * @throws NullPointerException if the given {@code Iterable} is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Set<T> newDeepHashSet(@NotNull Iterable<? extends T> elements) {
+    return newHashSet(elements, HashingStrategies.<T>deep());
+  }
+
+  /**
+   * Creates a <em>mutable</em>, hash-based {@code Set} that compares and hashes its elements with the given strategy,
+   * instead of their own {@code equals} and {@code hashCode}. Elements are stored as they are, without any wrapper.
+   *
+   * @param <T>      the generic type of the {@code Set} to create.
+   * @param strategy how to compare and hash the elements.
+   * @return the created {@code Set}.
+   * @throws NullPointerException if the given strategy is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Set<T> newHashSet(@NotNull HashingStrategy<? super T> strategy) {
+    return new StrategyHashSet<T>(strategy);
+  }
+
+  /**
+   * Creates a <em>mutable</em>, hash-based {@code Set} containing the given elements, that compares and hashes them
+   * with the given strategy instead of their own {@code equals} and {@code hashCode}. Elements are stored as they are,
+   * without any wrapper.
+   *
+   * @param <T>      the generic type of the {@code Set} to create.
+   * @param elements the elements to store in the {@code Set}.
+   * @param strategy how to compare and hash the elements.
+   * @return the created {@code Set}.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   * @since 1.3.0
+   */
+  public static @NotNull <T> Set<T> newHashSet(@NotNull Iterable<? extends T> elements,
+                                               @NotNull HashingStrategy<? super T> strategy) {
+    checkNotNull(elements);
+    Set<T> set = elements instanceof Collection<?> ? new StrategyHashSet<T>(strategy, ((Collection<?>) elements).size())
+        : new StrategyHashSet<T>(strategy);
+    for (T e : elements) {
+      set.add(e);
+    }
+    return set;
+  }
+
+  /**
+   * Creates an <em>immutable</em> {@code Set} containing the given elements, ignoring duplicates. It iterates over its
+   * elements in the order they appear in the given array, and keeps them in an array indexed by an open-addressing hash
+   * table, which takes less memory than a {@code HashSet}. It is safe to share between threads and to keep in
+   * constants. A {@code null} element is allowed.
+   *
+   * @param <T>      the generic type of the {@code Set} to create.
+   * @param elements the elements to store in the {@code Set}.
+   * @return the created {@code Set}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @since 1.3.0
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs") // the array is only read, to copy its elements.
+  public static @NotNull <T> Set<T> of(@NotNull T... elements) {
+    if (checkNotNull(elements).length == 0) {
+      return java.util.Collections.emptySet();
+    }
+    return new ImmutableArraySet<T>(elements);
+  }
+
   /**
    * Creates a <em>mutable</em> {@code LinkedHashSet}.
    *
@@ -79,8 +198,7 @@ public final class Sets {
    * @since 1.2.3
    */
   public static @NotNull <T> LinkedHashSet<T> newLinkedHashSet(@NotNull T... elements) {
-    checkNotNull(elements);
-    LinkedHashSet<T> set = new LinkedHashSet<T>();
+    LinkedHashSet<T> set = new LinkedHashSet<T>(Maps.capacityFor(checkNotNull(elements).length));
     addAll(set, elements);
     return set;
   }
@@ -0,0 +1,345 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.fest.util.Objects.areEqual;
+import static org.fest.util.Objects.deepHashCodeFor;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Hash table based {@code Map} that compares and hashes keys with a {@link HashingStrategy}. Keys are stored as they
+ * are, without any wrapper. Values, and entries compared with the entries of other maps, are compared with
+ * {@link Objects#areEqual(Object, Object)}. Like {@code HashMap}, it allows {@code null} keys and values and is not
+ * thread-safe.
+ * <p>
+ * The strategy receives any object passed to {@code get}, {@code containsKey} or {@code remove}, not only keys of type
+ * {@code K}. Keys must not be modified, in a way that changes how the strategy sees them, while they are in the map.
+ * </p>
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @author Alex Ruiz
+ */
+class StrategyHashMap<K, V> extends AbstractMap<K, V> {
+  private static final int MINIMUM_CAPACITY = 16;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private final HashingStrategy<Object> strategy;
+  private Node<K, V>[] table;
+  private int size;
+  private int threshold;
+  private int modCount;
+  private Set<Entry<K, V>> entrySet;
+
+  StrategyHashMap(@NotNull HashingStrategy<? super K> strategy) {
+    this(strategy, MINIMUM_CAPACITY);
+  }
+
+  @SuppressWarnings("unchecked")
+  StrategyHashMap(@NotNull HashingStrategy<? super K> strategy, int expectedSize) {
+    // the strategy is also called with the arguments of get, containsKey and remove, which are not typed.
+    this.strategy = (HashingStrategy<Object>) checkNotNull(strategy);
+    table = newTable(tableSizeFor(expectedSize));
+  }
+
+  /**
+   * @return the strategy that compares and hashes the keys of this map.
+   */
+  @NotNull HashingStrategy<Object> strategy() {
+    return strategy;
+  }
+
+  private int hash(@Nullable Object key) {
+    int h = strategy.hashCodeOf(key);
+    return h ^ (h >>> 16);
+  }
+
+  private boolean areEqualKeys(@Nullable Object key1, @Nullable Object key2) {
+    return key1 == key2 || strategy.areEqual(key1, key2);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return findNode(key) != null;
+  }
+
+  @Override
+  public V get(@Nullable Object key) {
+    Node<K, V> node = findNode(key);
+    return node != null ? node.value : null;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    int hash = hash(key);
+    int index = hash & (table.length - 1);
+    for (Node<K, V> node = table[index]; node != null; node = node.next) {
+      if (node.hash == hash && areEqualKeys(node.key, key)) {
+        V old = node.value;
+        node.value = value;
+        return old;
+      }
+    }
+    table[index] = new Node<K, V>(hash, key, value, table[index]);
+    modCount++;
+    if (++size > threshold) {
+      resize();
+    }
+    return null;
+  }
+
+  @Override
+  public V remove(@Nullable Object key) {
+    Node<K, V> node = removeNode(key);
+    return node != null ? node.value : null;
+  }
+
+  @Override
+  public void clear() {
+    if (size == 0) {
+      return;
+    }
+    modCount++;
+    for (int i = 0; i < table.length; i++) {
+      table[i] = null;
+    }
+    size = 0;
+  }
+
+  @Override
+  public @NotNull Set<Entry<K, V>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  @Nullable Node<K, V> findNode(@Nullable Object key) {
+    int hash = hash(key);
+    for (Node<K, V> node = table[hash & (table.length - 1)]; node != null; node = node.next) {
+      if (node.hash == hash && areEqualKeys(node.key, key)) {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  @Nullable Node<K, V> removeNode(@Nullable Object key) {
+    int hash = hash(key);
+    int index = hash & (table.length - 1);
+    Node<K, V> previous = null;
+    for (Node<K, V> node = table[index]; node != null; previous = node, node = node.next) {
+      if (node.hash == hash && areEqualKeys(node.key, key)) {
+        if (previous == null) {
+          table[index] = node.next;
+        } else {
+          previous.next = node.next;
+        }
+        modCount++;
+        size--;
+        return node;
+      }
+    }
+    return null;
+  }
+
+  private void resize() {
+    Node<K, V>[] oldTable = table;
+    if (oldTable.length == MAXIMUM_CAPACITY) {
+      threshold = Integer.MAX_VALUE;
+      return;
+    }
+    Node<K, V>[] newTable = newTable(oldTable.length << 1);
+    int mask = newTable.length - 1;
+    for (Node<K, V> head : oldTable) {
+      Node<K, V> node = head;
+      while (node != null) {
+        Node<K, V> next = node.next;
+        int index = node.hash & mask;
+        node.next = newTable[index];
+        newTable[index] = node;
+        node = next;
+      }
+    }
+    table = newTable;
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NotNull Node<K, V>[] newTable(int capacity) {
+    threshold = (int) Math.min(capacity * 3L / 4, Integer.MAX_VALUE);
+    return (Node<K, V>[]) new Node<?, ?>[capacity];
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    if (expectedSize < 0) {
+      String msg = String.format("The initial capacity should not be negative, but was <%d>", expectedSize);
+      throw new IllegalArgumentException(msg);
+    }
+    // large enough to hold the expected number of entries without resizing, with a 0.75 load factor.
+    long capacity = Math.max(MINIMUM_CAPACITY, (long) Math.ceil(expectedSize / 0.75));
+    if (capacity >= MAXIMUM_CAPACITY) {
+      return MAXIMUM_CAPACITY;
+    }
+    return Integer.highestOneBit((int) capacity - 1) << 1;
+  }
+
+  static class Node<K, V> implements Map.Entry<K, V> {
+    final int hash;
+    final K key;
+    V value;
+    Node<K, V> next;
+
+    Node(int hash, K key, V value, Node<K, V> next) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+      this.next = next;
+    }
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    public V getValue() {
+      return value;
+    }
+
+    @Override
+    public V setValue(V value) {
+      V old = this.value;
+      this.value = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry<?, ?>)) {
+        return false;
+      }
+      Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+      return areEqual(key, other.getKey()) && areEqual(value, other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return deepHashCodeFor(key) ^ deepHashCodeFor(value);
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+  }
+
+  private class EntrySet extends AbstractSet<Entry<K, V>> {
+    @Override
+    public @NotNull Iterator<Entry<K, V>> iterator() {
+      return new NodeIterator();
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Map.Entry<?, ?>)) {
+        return false;
+      }
+      Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+      Node<K, V> node = findNode(entry.getKey());
+      return node != null && areEqual(node.value, entry.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      return contains(o) && removeNode(((Map.Entry<?, ?>) o).getKey()) != null;
+    }
+
+    @Override
+    public void clear() {
+      StrategyHashMap.this.clear();
+    }
+  }
+
+  private class NodeIterator implements Iterator<Entry<K, V>> {
+    private Node<K, V> next;
+    private Node<K, V> current;
+    private int index;
+    private int expectedModCount = modCount;
+
+    NodeIterator() {
+      advance();
+    }
+
+    private void advance() {
+      Node<K, V>[] t = table;
+      while (next == null && index < t.length) {
+        next = t[index++];
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      current = next;
+      next = next.next;
+      advance();
+      return current;
+    }
+
+    @Override
+    public void remove() {
+      if (current == null) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeNode(current.key);
+      current = null;
+      expectedModCount = modCount;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+/**
+ * Hash table based {@code Set} that compares and hashes its elements with a {@link HashingStrategy}. Elements are
+ * stored as they are, without any wrapper. Backed by a {@link StrategyHashMap}.
+ *
+ * @param <E> the type of elements.
+ * @author Alex Ruiz
+ */
+class StrategyHashSet<E> extends AbstractSet<E> {
+  private final StrategyHashMap<E, Boolean> map;
+
+  StrategyHashSet(@NotNull HashingStrategy<? super E> strategy) {
+    map = new StrategyHashMap<E, Boolean>(strategy);
+  }
+
+  StrategyHashSet(@NotNull HashingStrategy<? super E> strategy, int expectedSize) {
+    map = new StrategyHashMap<E, Boolean>(strategy, expectedSize);
+  }
+
+  @Override
+  public @NotNull Iterator<E> iterator() {
+    return map.keySet().iterator();
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    return map.containsKey(o);
+  }
+
+  @Override
+  public boolean add(E e) {
+    return map.put(e, Boolean.TRUE) == null;
+  }
+
+  @Override
+  public boolean remove(@Nullable Object o) {
+    return map.removeNode(o) != null;
+  }
+
+  @Override
+  public void clear() {
+    map.clear();
+  }
+}
@@ -17,6 +17,7 @@ package org.fest.util;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.io.File;
+import java.time.temporal.TemporalAccessor;
 import java.util.*;
 
 import static org.fest.util.Arrays.isArray;
@@ -31,6 +32,12 @@ import static org.fest.util.Strings.quote;
  * @author Yvonne Wang
  */
 public final class ToString {
+  private static final DateFormatter DATE_FORMATTER = new DateFormatter();
+  private static final FieldByFieldFormatter FIELD_BY_FIELD_FORMATTER =
+      new FieldByFieldFormatter(FieldByFieldFormatter.DEFAULT_MAX_DEPTH);
+
+  private static volatile RepresentationCache representationCache;
+
   private ToString() {
   }
 
@@ -42,11 +49,39 @@ public final class ToString {
    * @return the {@code toString} representation of the given object.
    */
   public static @Nullable String toStringOf(@Nullable Object o) {
+    RepresentationCache cache = representationCache;
+    if (cache == null || !RepresentationCache.isCacheable(o)) {
+      return representationOf(o);
+    }
+    String representation = cache.get(checkNotNull(o));
+    if (representation != null) {
+      return representation;
+    }
+    representation = representationOf(o);
+    if (representation != null) {
+      cache.put(o, representation);
+    }
+    return representation;
+  }
+
+  /**
+   * Starts memoizing, in the given cache, the representations returned by {@link #toStringOf(Object)} for values whose
+   * representation never changes, like {@code Class}es and {@code Enum}s. Memoization is off by default.
+   *
+   * @param cache the cache to use, or {@code null} to stop memoizing representations.
+   * @see RepresentationCache
+   * @since 1.3.0
+   */
+  public static void useRepresentationCache(@Nullable RepresentationCache cache) {
+    representationCache = cache;
+  }
+
+  private static @Nullable String representationOf(@Nullable Object o) {
     if (isArray(o)) {
       return Arrays.format(o);
     }
     if (o instanceof Calendar) {
-      return toStringOf(o);
+      return DATE_FORMATTER.format((Calendar) o);
     }
     if (o instanceof Class<?>) {
       return toStringOf((Class<?>) o);
@@ -55,7 +90,10 @@ public final class ToString {
       return toStringOf((Collection<?>) o);
     }
     if (o instanceof Date) {
-      return toStringOf(o);
+      return DATE_FORMATTER.format((Date) o);
+    }
+    if (o instanceof TemporalAccessor) {
+      return DATE_FORMATTER.format((TemporalAccessor) o);
     }
     if (o instanceof Float) {
       return toStringOf((Float) o);
@@ -78,6 +116,38 @@ public final class ToString {
     return o == null ? null : o.toString();
   }
 
+  /**
+   * Returns a field-by-field representation of the given object, like {@code Person{name='Leia', age=23}}. Objects in
+   * the graph whose class does not override {@code toString} are represented by the values of their fields, any other
+   * object is represented by {@link #toStringOf(Object)}. Cycles are elided, and so are objects nested more than 8
+   * levels deep.
+   *
+   * @param o the given object.
+   * @return the field-by-field representation of the given object, or {@code null} if the given object is {@code null}.
+   * @throws IntrospectionError if the value of a field cannot be read.
+   * @since 1.3.0
+   */
+  public static @Nullable String toStringOfFields(@Nullable Object o) {
+    return FIELD_BY_FIELD_FORMATTER.format(o);
+  }
+
+  /**
+   * Returns a field-by-field representation of the given object, like {@code Person{name='Leia', age=23}}. Objects in
+   * the graph whose class does not override {@code toString} are represented by the values of their fields, any other
+   * object is represented by {@link #toStringOf(Object)}. Cycles are elided, and so are objects nested deeper than the
+   * given maximum depth.
+   *
+   * @param o        the given object.
+   * @param maxDepth how many levels of nested objects to represent.
+   * @return the field-by-field representation of the given object, or {@code null} if the given object is {@code null}.
+   * @throws IllegalArgumentException if the given maximum depth is negative.
+   * @throws IntrospectionError       if the value of a field cannot be read.
+   * @since 1.3.0
+   */
+  public static @Nullable String toStringOfFields(@Nullable Object o, int maxDepth) {
+    return new FieldByFieldFormatter(maxDepth).format(o);
+  }
+
   private static @NotNull String toStringOf(@NotNull Comparator<?> comparator) {
     String typeName = comparator.getClass().getSimpleName();
     String toString = quote(!typeName.isEmpty() ? typeName : "Anonymous Comparator class");
@@ -0,0 +1,239 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import static org.fest.util.Objects.HASH_CODE_PRIME;
+import static org.fest.util.Objects.hashCodeFor;
+
+/**
+ * How far apart two floating-point numbers can be and still be considered equal. A tolerance is either absolute
+ * (<code>|a - b| &lt;= epsilon</code>), relative to the larger magnitude of the two numbers
+ * (<code>|a - b| &lt;= epsilon * max(|a|, |b|)</code>), or a maximum number of units in the last place (ULPs) between
+ * them, that is, of representable numbers between them.
+ * <p>
+ * With any tolerance, like with {@code Double.equals}, {@code NaN} is equal to itself and to no other number, and an
+ * infinity is only equal to the same infinity.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @see Arrays#indexOfFirstDifference(double[], double[], Tolerance)
+ * @see Arrays#indexOfFirstDifference(float[], float[], Tolerance)
+ * @since 1.3.0
+ */
+public final class Tolerance {
+  private enum Mode {
+    ABSOLUTE, RELATIVE, ULPS
+  }
+
+  private final Mode mode;
+  private final double epsilon;
+  private final long maxUlps;
+
+  private Tolerance(@NotNull Mode mode, double epsilon, long maxUlps) {
+    this.mode = mode;
+    this.epsilon = epsilon;
+    this.maxUlps = maxUlps;
+  }
+
+  /**
+   * Creates a tolerance of an absolute difference.
+   *
+   * @param epsilon the largest absolute difference between two numbers considered equal.
+   * @return the created tolerance.
+   * @throws IllegalArgumentException if the given difference is negative, infinite or {@code NaN}.
+   */
+  public static @NotNull Tolerance absolute(double epsilon) {
+    return new Tolerance(Mode.ABSOLUTE, checkEpsilon(epsilon), 0);
+  }
+
+  /**
+   * Creates a tolerance of a difference relative to the larger magnitude of the two numbers being compared.
+   *
+   * @param epsilon the largest difference, as a fraction of the larger magnitude of two numbers, between two numbers
+   *                considered equal. For example, {@code 0.01} is a difference of 1%.
+   * @return the created tolerance.
+   * @throws IllegalArgumentException if the given difference is negative, infinite or {@code NaN}.
+   */
+  public static @NotNull Tolerance relative(double epsilon) {
+    return new Tolerance(Mode.RELATIVE, checkEpsilon(epsilon), 0);
+  }
+
+  /**
+   * Creates a tolerance of a number of units in the last place (ULPs). {@code 0} and {@code -0} are 0 ULPs apart.
+   *
+   * @param maxUlps the largest number of ULPs between two numbers considered equal.
+   * @return the created tolerance.
+   * @throws IllegalArgumentException if the given number is negative.
+   */
+  public static @NotNull Tolerance ulps(long maxUlps) {
+    if (maxUlps < 0) {
+      String msg = String.format("The number of ULPs should not be negative, but was <%d>", maxUlps);
+      throw new IllegalArgumentException(msg);
+    }
+    return new Tolerance(Mode.ULPS, 0, maxUlps);
+  }
+
+  private static double checkEpsilon(double epsilon) {
+    if (!(epsilon >= 0) || epsilon == Double.POSITIVE_INFINITY) {
+      String msg = String.format("The tolerance should be zero or positive and finite, but was <%s>", epsilon);
+      throw new IllegalArgumentException(msg);
+    }
+    return epsilon;
+  }
+
+  // Each mode has its own loop, without allocations and with only small calls the JIT inlines, so it can be unrolled.
+  int indexOfFirstDifference(@NotNull double[] a1, @NotNull double[] a2) {
+    int size = Math.min(a1.length, a2.length);
+    int i = 0;
+    switch (mode) {
+      case ABSOLUTE:
+        while (i < size && (isWithinAbsoluteTolerance(a1[i], a2[i]) || areSame(a1[i], a2[i]))) {
+          i++;
+        }
+        break;
+      case RELATIVE:
+        while (i < size && (isWithinRelativeTolerance(a1[i], a2[i]) || areSame(a1[i], a2[i]))) {
+          i++;
+        }
+        break;
+      default:
+        while (i < size && (a1[i] == a2[i] || areWithinUlps(a1[i], a2[i]))) {
+          i++;
+        }
+    }
+    return i < size || a1.length != a2.length ? i : -1;
+  }
+
+  int indexOfFirstDifference(@NotNull float[] a1, @NotNull float[] a2) {
+    int size = Math.min(a1.length, a2.length);
+    float e = (float) epsilon;
+    int i = 0;
+    switch (mode) {
+      case ABSOLUTE:
+        while (i < size && (isWithinAbsoluteTolerance(a1[i], a2[i]) || areSame(a1[i], a2[i]))) {
+          i++;
+        }
+        break;
+      case RELATIVE:
+        while (i < size && (isWithinRelativeTolerance(a1[i], a2[i], e) || areSame(a1[i], a2[i]))) {
+          i++;
+        }
+        break;
+      default:
+        while (i < size && (a1[i] == a2[i] || areWithinUlps(a1[i], a2[i]))) {
+          i++;
+        }
+    }
+    return i < size || a1.length != a2.length ? i : -1;
+  }
+
+  // An infinity is infinitely far from any finite number, however large the tolerance.
+  private boolean isWithinAbsoluteTolerance(double d1, double d2) {
+    double difference = Math.abs(d1 - d2);
+    return difference <= epsilon && difference != Double.POSITIVE_INFINITY;
+  }
+
+  // The difference is calculated in double, so it does not overflow and epsilon is not rounded to a float infinity.
+  private boolean isWithinAbsoluteTolerance(float f1, float f2) {
+    double difference = Math.abs((double) f1 - f2);
+    return difference <= epsilon && difference != Double.POSITIVE_INFINITY;
+  }
+
+  // An infinity is infinitely far from any finite number, even relative to the infinity itself.
+  private boolean isWithinRelativeTolerance(double d1, double d2) {
+    double difference = Math.abs(d1 - d2);
+    return difference <= epsilon * Math.max(Math.abs(d1), Math.abs(d2)) && difference != Double.POSITIVE_INFINITY;
+  }
+
+  private static boolean isWithinRelativeTolerance(float f1, float f2, float epsilon) {
+    float difference = Math.abs(f1 - f2);
+    return difference <= epsilon * Math.max(Math.abs(f1), Math.abs(f2)) && difference != Float.POSITIVE_INFINITY;
+  }
+
+  // The differences of NaNs and infinities are NaN, so they are only within tolerance if they are the same value.
+  private static boolean areSame(double d1, double d2) {
+    return Double.doubleToLongBits(d1) == Double.doubleToLongBits(d2);
+  }
+
+  private static boolean areSame(float f1, float f2) {
+    return Float.floatToIntBits(f1) == Float.floatToIntBits(f2);
+  }
+
+  // The largest finite number is 1 ULP away from infinity, but an infinity is only equal to the same infinity.
+  private boolean areWithinUlps(double d1, double d2) {
+    if (Double.isNaN(d1) || Double.isNaN(d2) || Double.isInfinite(d1) || Double.isInfinite(d2)) {
+      return areSame(d1, d2);
+    }
+    long o1 = ordered(Double.doubleToRawLongBits(d1));
+    long o2 = ordered(Double.doubleToRawLongBits(d2));
+    long difference = o1 - o2;
+    // the subtraction only overflows for numbers of opposite signs that are far apart.
+    boolean overflow = ((o1 ^ o2) & (o1 ^ difference)) < 0;
+    return !overflow && difference >= -maxUlps && difference <= maxUlps;
+  }
+
+  private boolean areWithinUlps(float f1, float f2) {
+    if (Float.isNaN(f1) || Float.isNaN(f2) || Float.isInfinite(f1) || Float.isInfinite(f2)) {
+      return areSame(f1, f2);
+    }
+    long difference = (long) ordered(Float.floatToRawIntBits(f1)) - ordered(Float.floatToRawIntBits(f2));
+    return difference >= -maxUlps && difference <= maxUlps;
+  }
+
+  // Maps the bits of a floating-point number to an integer that grows with the number, with 0 for both 0 and -0.
+  private static long ordered(long bits) {
+    return bits < 0 ? Long.MIN_VALUE - bits : bits;
+  }
+
+  private static int ordered(int bits) {
+    return bits < 0 ? Integer.MIN_VALUE - bits : bits;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    Tolerance other = (Tolerance) obj;
+    return mode == other.mode && Double.doubleToLongBits(epsilon) == Double.doubleToLongBits(other.epsilon)
+        && maxUlps == other.maxUlps;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = HASH_CODE_PRIME * result + mode.ordinal();
+    result = HASH_CODE_PRIME * result + hashCodeFor(epsilon);
+    result = HASH_CODE_PRIME * result + hashCodeFor(maxUlps);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    switch (mode) {
+      case ABSOLUTE:
+        return String.format("absolute tolerance <%s>", epsilon);
+      case RELATIVE:
+        return String.format("relative tolerance <%s>", epsilon);
+      default:
+        return String.format("tolerance of <%d> ULPs", maxUlps);
+    }
+  }
+}
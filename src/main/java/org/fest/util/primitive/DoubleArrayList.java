@@ -0,0 +1,254 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.fest.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.DoubleConsumer;
+
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.primitive.PrimitiveHashing.checkCapacity;
+import static org.fest.util.primitive.PrimitiveHashing.grownCapacity;
+
+/**
+ * Resizable list of {@code double}s, backed by a {@code double} array, that does not box its elements. It is the
+ * primitive counterpart of {@code ArrayList<Double>}. Like {@code Double.equals}, elements are compared by their bits:
+ * {@code NaN} is equal to itself and {@code 0.0} is not equal to {@code -0.0}.
+ * <p>
+ * {@link #toString()} returns the same representation as {@link Arrays#format(Object)} for a {@code double} array, and
+ * {@link #toArray()} returns the elements in an array that can be passed to any of the array utilities. This class is
+ * not thread-safe.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.3.0
+ */
+public final class DoubleArrayList {
+  private static final double[] NO_ELEMENTS = new double[0];
+
+  private double[] elements;
+  private int size;
+
+  /**
+   * Creates a new, empty {@link DoubleArrayList}.
+   */
+  public DoubleArrayList() {
+    elements = NO_ELEMENTS;
+  }
+
+  /**
+   * Creates a new, empty {@link DoubleArrayList} that can hold the given number of elements without resizing.
+   *
+   * @param initialCapacity the number of elements the list can hold without resizing.
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  public DoubleArrayList(int initialCapacity) {
+    elements = checkCapacity(initialCapacity) == 0 ? NO_ELEMENTS : new double[initialCapacity];
+  }
+
+  /**
+   * @return the number of elements in this list.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code true} if this list has no elements.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param index the index of the element.
+   * @return the element at the given index.
+   * @throws IndexOutOfBoundsException if the given index is not between 0 (inclusive) and the size (exclusive).
+   */
+  public double get(int index) {
+    checkIndex(index);
+    return elements[index];
+  }
+
+  /**
+   * Replaces the element at the given index.
+   *
+   * @param index   the index of the element to replace.
+   * @param element the new element.
+   * @return the element previously at the given index.
+   * @throws IndexOutOfBoundsException if the given index is not between 0 (inclusive) and the size (exclusive).
+   */
+  public double set(int index, double element) {
+    checkIndex(index);
+    double old = elements[index];
+    elements[index] = element;
+    return old;
+  }
+
+  /**
+   * Appends the given element to the end of this list.
+   *
+   * @param element the element to append.
+   */
+  public void add(double element) {
+    if (size == elements.length) {
+      grow(size + 1);
+    }
+    elements[size++] = element;
+  }
+
+  /**
+   * Appends the given elements to the end of this list.
+   *
+   * @param newElements the elements to append.
+   * @throws NullPointerException if the given array is {@code null}.
+   */
+  public void addAll(@NotNull double... newElements) {
+    checkNotNull(newElements);
+    int newSize = size + newElements.length;
+    if (newSize > elements.length || newSize < 0) {
+      grow(newSize);
+    }
+    System.arraycopy(newElements, 0, elements, size, newElements.length);
+    size = newSize;
+  }
+
+  /**
+   * Removes the element at the given index, shifting the elements after it to the left.
+   *
+   * @param index the index of the element to remove.
+   * @return the removed element.
+   * @throws IndexOutOfBoundsException if the given index is not between 0 (inclusive) and the size (exclusive).
+   */
+  public double removeAt(int index) {
+    checkIndex(index);
+    double old = elements[index];
+    System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+    size--;
+    return old;
+  }
+
+  /**
+   * Removes all the elements of this list, keeping its capacity.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given element, comparing the elements like {@code Double.equals}.
+   *
+   * @param element the element to look for.
+   * @return the index of the first occurrence of the given element, or -1 if this list does not contain it.
+   */
+  public int indexOf(double element) {
+    double[] elements = this.elements;
+    for (int i = 0; i < size; i++) {
+      if (Double.doubleToLongBits(elements[i]) == Double.doubleToLongBits(element)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Indicates whether this list contains the given element.
+   *
+   * @param element the element to look for.
+   * @return {@code true} if this list contains the given element.
+   */
+  public boolean contains(double element) {
+    return indexOf(element) >= 0;
+  }
+
+  /**
+   * Performs the given action on each element of this list, in order.
+   *
+   * @param action the action to perform.
+   * @throws NullPointerException if the given action is {@code null}.
+   */
+  public void forEach(@NotNull DoubleConsumer action) {
+    checkNotNull(action);
+    for (int i = 0; i < size; i++) {
+      action.accept(elements[i]);
+    }
+  }
+
+  /**
+   * @return a new array containing the elements of this list, in order.
+   */
+  public @NotNull double[] toArray() {
+    return java.util.Arrays.copyOf(elements, size);
+  }
+
+  /**
+   * Indicates whether the given object is a {@link DoubleArrayList} with the same elements, in the same order,
+   * comparing the elements like {@code Double.equals}.
+   *
+   * @param obj the object to compare to.
+   * @return {@code true} if the given object is equal to this list.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DoubleArrayList)) {
+      return false;
+    }
+    DoubleArrayList other = (DoubleArrayList) obj;
+    if (size != other.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (Double.doubleToLongBits(elements[i]) != Double.doubleToLongBits(other.elements[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the same hash code as {@code java.util.Arrays.hashCode} for an array with the elements of this list.
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < size; i++) {
+      long bits = Double.doubleToLongBits(elements[i]);
+      hashCode = 31 * hashCode + (int) (bits ^ (bits >>> 32));
+    }
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.format(toArray());
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      String msg = String.format("The index should be between 0 and %d, but was <%d>", size - 1, index);
+      throw new IndexOutOfBoundsException(msg);
+    }
+  }
+
+  private void grow(int minCapacity) {
+    elements = java.util.Arrays.copyOf(elements, grownCapacity(elements.length, minCapacity));
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.fest.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntConsumer;
+
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.primitive.PrimitiveHashing.MAXIMUM_CAPACITY;
+import static org.fest.util.primitive.PrimitiveHashing.capacityFor;
+import static org.fest.util.primitive.PrimitiveHashing.mix;
+
+/**
+ * Set of {@code int}s that does not box its elements. It is the primitive counterpart of {@code HashSet<Integer>}, and
+ * keeps its elements in an open-addressing hash table with linear probing and a 0.5 load factor.
+ * <p>
+ * {@link #toString()} returns the same representation as {@link Arrays#format(Object)} for an {@code int} array with
+ * the elements of this set, in no particular order. This class is not thread-safe.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.3.0
+ */
+public final class IntHashSet {
+  // zero marks the free slots of the table, so it is kept out of it.
+  private boolean containsZero;
+  private int[] table;
+  private int size;
+  private int threshold;
+
+  /**
+   * Creates a new, empty {@link IntHashSet}.
+   */
+  public IntHashSet() {
+    this(0);
+  }
+
+  /**
+   * Creates a new, empty {@link IntHashSet} that can hold the given number of elements without resizing.
+   *
+   * @param expectedSize the number of elements the set can hold without resizing.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public IntHashSet(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  /**
+   * @return the number of elements in this set.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code true} if this set has no elements.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Indicates whether this set contains the given element.
+   *
+   * @param element the element to look for.
+   * @return {@code true} if this set contains the given element.
+   */
+  public boolean contains(int element) {
+    if (element == 0) {
+      return containsZero;
+    }
+    return table[indexOf(element)] == element;
+  }
+
+  /**
+   * Adds the given element to this set.
+   *
+   * @param element the element to add.
+   * @return {@code true} if this set did not already contain the given element.
+   */
+  public boolean add(int element) {
+    if (element == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      size++;
+      return true;
+    }
+    int index = indexOf(element);
+    if (table[index] == element) {
+      return false;
+    }
+    table[index] = element;
+    if (++size > threshold) {
+      rehash(table.length << 1);
+    }
+    return true;
+  }
+
+  /**
+   * Adds the given elements to this set.
+   *
+   * @param elements the elements to add.
+   * @throws NullPointerException if the given array is {@code null}.
+   */
+  public void addAll(@NotNull int... elements) {
+    checkNotNull(elements);
+    for (int element : elements) {
+      add(element);
+    }
+  }
+
+  /**
+   * Removes the given element from this set.
+   *
+   * @param element the element to remove.
+   * @return {@code true} if this set contained the given element.
+   */
+  public boolean remove(int element) {
+    if (element == 0) {
+      if (!containsZero) {
+        return false;
+      }
+      containsZero = false;
+      size--;
+      return true;
+    }
+    int index = indexOf(element);
+    if (table[index] != element) {
+      return false;
+    }
+    shiftKeysBackFrom(index);
+    size--;
+    return true;
+  }
+
+  /**
+   * Removes all the elements of this set, keeping its capacity.
+   */
+  public void clear() {
+    java.util.Arrays.fill(table, 0);
+    containsZero = false;
+    size = 0;
+  }
+
+  /**
+   * Performs the given action on each element of this set, in no particular order.
+   *
+   * @param action the action to perform.
+   * @throws NullPointerException if the given action is {@code null}.
+   */
+  public void forEach(@NotNull IntConsumer action) {
+    checkNotNull(action);
+    if (containsZero) {
+      action.accept(0);
+    }
+    for (int element : table) {
+      if (element != 0) {
+        action.accept(element);
+      }
+    }
+  }
+
+  /**
+   * @return a new array containing the elements of this set, in no particular order.
+   */
+  public @NotNull int[] toArray() {
+    int[] elements = new int[size];
+    int i = 0;
+    if (containsZero) {
+      elements[i++] = 0;
+    }
+    for (int element : table) {
+      if (element != 0) {
+        elements[i++] = element;
+      }
+    }
+    return elements;
+  }
+
+  /**
+   * Indicates whether the given object is a {@link IntHashSet} with the same elements.
+   *
+   * @param obj the object to compare to.
+   * @return {@code true} if the given object is equal to this set.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof IntHashSet)) {
+      return false;
+    }
+    IntHashSet other = (IntHashSet) obj;
+    if (size != other.size || containsZero != other.containsZero) {
+      return false;
+    }
+    for (int element : table) {
+      if (element != 0 && !other.contains(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the same hash code as a {@code java.util.Set} of {@code Integer}s with the elements of this set.
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (int element : table) {
+      hashCode += element;
+    }
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.format(toArray());
+  }
+
+  // Returns the slot holding the given element or, if this set does not contain it, the free slot where it would go.
+  private int indexOf(int element) {
+    int[] table = this.table;
+    int mask = table.length - 1;
+    int index = mix(element) & mask;
+    while (table[index] != 0 && table[index] != element) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  // Fills the slot of a removed element with the next ones in its probe sequence, so none of them become unreachable.
+  private void shiftKeysBackFrom(int index) {
+    int[] table = this.table;
+    int mask = table.length - 1;
+    int free = index;
+    int i = free;
+    while (true) {
+      i = (i + 1) & mask;
+      int element = table[i];
+      if (element == 0) {
+        table[free] = 0;
+        return;
+      }
+      int home = mix(element) & mask;
+      // the element can move to the free slot only if the free slot is between its home slot and its current slot.
+      if (((i - home) & mask) >= ((i - free) & mask)) {
+        table[free] = element;
+        free = i;
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("Too many elements");
+    }
+    int[] oldTable = table;
+    allocate(capacity);
+    int mask = capacity - 1;
+    for (int element : oldTable) {
+      if (element != 0) {
+        int index = mix(element) & mask;
+        while (table[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        table[index] = element;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    table = new int[capacity];
+    threshold = capacity >> 1;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+/**
+ * Action performed on each entry of an {@link IntIntHashMap}, without boxing its key or its value.
+ *
+ * @author Alex Ruiz
+ * @since 1.3.0
+ */
+public interface IntIntConsumer {
+  /**
+   * Performs this action on the given entry.
+   *
+   * @param key   the key of the entry.
+   * @param value the value of the entry.
+   */
+  void accept(int key, int value);
+}
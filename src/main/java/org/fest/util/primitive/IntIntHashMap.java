@@ -0,0 +1,349 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.jetbrains.annotations.NotNull;
+
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.primitive.PrimitiveHashing.MAXIMUM_CAPACITY;
+import static org.fest.util.primitive.PrimitiveHashing.capacityFor;
+import static org.fest.util.primitive.PrimitiveHashing.mix;
+
+/**
+ * Map of {@code int} keys to {@code int} values that does not box its keys or its values. It is the primitive
+ * counterpart of {@code HashMap<Integer, Integer>}, and keeps its entries in an open-addressing hash table with linear
+ * probing and a 0.5 load factor. Methods that look up a key return zero if the key is not in the map, which makes it a
+ * natural fit for counting.
+ * <p>
+ * {@link #toString()} returns the same representation as {@code Maps.format} for a {@code Map} with the entries of this
+ * map, in no particular order. This class is not thread-safe.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.3.0
+ */
+public final class IntIntHashMap {
+  // zero marks the free slots of the table, so the entry with key zero is kept out of it.
+  private boolean containsZeroKey;
+  private int zeroKeyValue;
+  private int[] keys;
+  private int[] values;
+  private int size;
+  private int threshold;
+
+  /**
+   * Creates a new, empty {@link IntIntHashMap}.
+   */
+  public IntIntHashMap() {
+    this(0);
+  }
+
+  /**
+   * Creates a new, empty {@link IntIntHashMap} that can hold the given number of entries without resizing.
+   *
+   * @param expectedSize the number of entries the map can hold without resizing.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public IntIntHashMap(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  /**
+   * @return the number of entries in this map.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code true} if this map has no entries.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Indicates whether this map contains an entry with the given key.
+   *
+   * @param key the key to look for.
+   * @return {@code true} if this map contains an entry with the given key.
+   */
+  public boolean containsKey(int key) {
+    if (key == 0) {
+      return containsZeroKey;
+    }
+    return keys[indexOf(key)] == key;
+  }
+
+  /**
+   * Returns the value associated with the given key.
+   *
+   * @param key the given key.
+   * @return the value associated with the given key, or zero if this map does not contain the given key.
+   */
+  public int get(int key) {
+    return getOrDefault(key, 0);
+  }
+
+  /**
+   * Returns the value associated with the given key.
+   *
+   * @param key          the given key.
+   * @param defaultValue the value to return if this map does not contain the given key.
+   * @return the value associated with the given key, or the default value if this map does not contain the given key.
+   */
+  public int getOrDefault(int key, int defaultValue) {
+    if (key == 0) {
+      return containsZeroKey ? zeroKeyValue : defaultValue;
+    }
+    int index = indexOf(key);
+    return keys[index] == key ? values[index] : defaultValue;
+  }
+
+  /**
+   * Associates the given value with the given key.
+   *
+   * @param key   the key.
+   * @param value the value.
+   * @return the value previously associated with the given key, or zero if this map did not contain the given key.
+   */
+  public int put(int key, int value) {
+    if (key == 0) {
+      int old = zeroKeyValue;
+      zeroKeyValue = value;
+      if (!containsZeroKey) {
+        containsZeroKey = true;
+        size++;
+      }
+      return old;
+    }
+    int index = indexOf(key);
+    int old = values[index];
+    values[index] = value;
+    if (keys[index] != key) {
+      keys[index] = key;
+      if (++size > threshold) {
+        rehash(keys.length << 1);
+      }
+    }
+    return old;
+  }
+
+  /**
+   * Adds the given amount to the value associated with the given key, associating the amount with the key if this map
+   * does not contain the key.
+   *
+   * @param key   the key.
+   * @param delta the amount to add.
+   * @return the new value associated with the given key.
+   */
+  public int addTo(int key, int delta) {
+    int value = get(key) + delta;
+    put(key, value);
+    return value;
+  }
+
+  /**
+   * Removes the entry with the given key.
+   *
+   * @param key the key of the entry to remove.
+   * @return the value that was associated with the given key, or zero if this map did not contain the given key.
+   */
+  public int remove(int key) {
+    if (key == 0) {
+      if (!containsZeroKey) {
+        return 0;
+      }
+      int old = zeroKeyValue;
+      containsZeroKey = false;
+      zeroKeyValue = 0;
+      size--;
+      return old;
+    }
+    int index = indexOf(key);
+    if (keys[index] != key) {
+      return 0;
+    }
+    int old = values[index];
+    shiftEntriesBackFrom(index);
+    size--;
+    return old;
+  }
+
+  /**
+   * Removes all the entries of this map, keeping its capacity.
+   */
+  public void clear() {
+    java.util.Arrays.fill(keys, 0);
+    java.util.Arrays.fill(values, 0);
+    containsZeroKey = false;
+    zeroKeyValue = 0;
+    size = 0;
+  }
+
+  /**
+   * Performs the given action on each entry of this map, in no particular order.
+   *
+   * @param action the action to perform.
+   * @throws NullPointerException if the given action is {@code null}.
+   */
+  public void forEach(@NotNull IntIntConsumer action) {
+    checkNotNull(action);
+    if (containsZeroKey) {
+      action.accept(0, zeroKeyValue);
+    }
+    int[] keys = this.keys;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) {
+        action.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  /**
+   * @return a new array containing the keys of this map, in no particular order.
+   */
+  public @NotNull int[] keys() {
+    int[] result = new int[size];
+    int i = 0;
+    if (containsZeroKey) {
+      result[i++] = 0;
+    }
+    for (int key : keys) {
+      if (key != 0) {
+        result[i++] = key;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Indicates whether the given object is an {@link IntIntHashMap} with the same entries.
+   *
+   * @param obj the object to compare to.
+   * @return {@code true} if the given object is equal to this map.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof IntIntHashMap)) {
+      return false;
+    }
+    IntIntHashMap other = (IntIntHashMap) obj;
+    if (size != other.size || containsZeroKey != other.containsZeroKey || zeroKeyValue != other.zeroKeyValue) {
+      return false;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      int key = keys[i];
+      if (key != 0 && (!other.containsKey(key) || other.get(key) != values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the same hash code as a {@code java.util.Map} of {@code Integer}s with the entries of this map.
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = containsZeroKey ? zeroKeyValue : 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != 0) {
+        hashCode += keys[i] ^ values[i];
+      }
+    }
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    if (size == 0) {
+      return "{}";
+    }
+    StringBuilder buffer = new StringBuilder(size * 8).append('{');
+    forEach((key, value) -> {
+      if (buffer.length() > 1) {
+        buffer.append(", ");
+      }
+      buffer.append(key).append('=').append(value);
+    });
+    return buffer.append('}').toString();
+  }
+
+  // Returns the slot holding the given key or, if this map does not contain it, the free slot where it would go.
+  private int indexOf(int key) {
+    int[] keys = this.keys;
+    int mask = keys.length - 1;
+    int index = mix(key) & mask;
+    while (keys[index] != 0 && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  // Fills the slot of a removed entry with the next ones in its probe sequence, so none of them become unreachable.
+  private void shiftEntriesBackFrom(int index) {
+    int[] keys = this.keys;
+    int mask = keys.length - 1;
+    int free = index;
+    int i = free;
+    while (true) {
+      i = (i + 1) & mask;
+      int key = keys[i];
+      if (key == 0) {
+        keys[free] = 0;
+        values[free] = 0;
+        return;
+      }
+      int home = mix(key) & mask;
+      // the entry can move to the free slot only if the free slot is between its home slot and its current slot.
+      if (((i - home) & mask) >= ((i - free) & mask)) {
+        keys[free] = key;
+        values[free] = values[i];
+        free = i;
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("Too many entries");
+    }
+    int[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(capacity);
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      int key = oldKeys[i];
+      if (key != 0) {
+        int index = mix(key) & mask;
+        while (keys[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    values = new int[capacity];
+    threshold = capacity >> 1;
+  }
+}
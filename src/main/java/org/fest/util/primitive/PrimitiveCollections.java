@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.jetbrains.annotations.NotNull;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Factory methods for the collections of primitive values in this package, in the style of
+ * {@link org.fest.util.Lists#newArrayList(Object[])}.
+ *
+ * @author Alex Ruiz
+ * @since 1.3.0
+ */
+public final class PrimitiveCollections {
+  private PrimitiveCollections() {
+  }
+
+  /**
+   * Creates a <em>mutable</em> {@link IntArrayList} containing the given elements.
+   *
+   * @param elements the elements to store in the list.
+   * @return the created list.
+   * @throws NullPointerException if the given array is {@code null}.
+   */
+  public static @NotNull IntArrayList newIntArrayList(@NotNull int... elements) {
+    IntArrayList list = new IntArrayList(checkNotNull(elements).length);
+    list.addAll(elements);
+    return list;
+  }
+
+  /**
+   * Creates a <em>mutable</em> {@link LongArrayList} containing the given elements.
+   *
+   * @param elements the elements to store in the list.
+   * @return the created list.
+   * @throws NullPointerException if the given array is {@code null}.
+   */
+  public static @NotNull LongArrayList newLongArrayList(@NotNull long... elements) {
+    LongArrayList list = new LongArrayList(checkNotNull(elements).length);
+    list.addAll(elements);
+    return list;
+  }
+
+  /**
+   * Creates a <em>mutable</em> {@link DoubleArrayList} containing the given elements.
+   *
+   * @param elements the elements to store in the list.
+   * @return the created list.
+   * @throws NullPointerException if the given array is {@code null}.
+   */
+  public static @NotNull DoubleArrayList newDoubleArrayList(@NotNull double... elements) {
+    DoubleArrayList list = new DoubleArrayList(checkNotNull(elements).length);
+    list.addAll(elements);
+    return list;
+  }
+
+  /**
+   * Creates a <em>mutable</em> {@link IntHashSet} containing the given elements.
+   *
+   * @param elements the elements to store in the set.
+   * @return the created set.
+   * @throws NullPointerException if the given array is {@code null}.
+   */
+  public static @NotNull IntHashSet newIntHashSet(@NotNull int... elements) {
+    IntHashSet set = new IntHashSet(checkNotNull(elements).length);
+    set.addAll(elements);
+    return set;
+  }
+
+  /**
+   * Creates a <em>mutable</em> {@link LongHashSet} containing the given elements.
+   *
+   * @param elements the elements to store in the set.
+   * @return the created set.
+   * @throws NullPointerException if the given array is {@code null}.
+   */
+  public static @NotNull LongHashSet newLongHashSet(@NotNull long... elements) {
+    LongHashSet set = new LongHashSet(checkNotNull(elements).length);
+    set.addAll(elements);
+    return set;
+  }
+
+  /**
+   * Creates a <em>mutable</em>, empty {@link IntIntHashMap}.
+   *
+   * @return the created map.
+   */
+  public static @NotNull IntIntHashMap newIntIntHashMap() {
+    return new IntIntHashMap();
+  }
+}
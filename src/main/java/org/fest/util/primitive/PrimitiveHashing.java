@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+/**
+ * Hashing and sizing shared by the open-addressing hash tables of this package.
+ *
+ * @author Alex Ruiz
+ */
+final class PrimitiveHashing {
+  static final int MINIMUM_CAPACITY = 16;
+  static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private PrimitiveHashing() {
+  }
+
+  /**
+   * Spreads the bits of the given value, so keys that differ only in their high bits, or that are multiples of the
+   * table size, do not end up in the same slots.
+   *
+   * @param key the given value.
+   * @return the mixed value.
+   */
+  static int mix(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Spreads the bits of the given value, like {@link #mix(int)}.
+   *
+   * @param key the given value.
+   * @return the mixed value.
+   */
+  static int mix(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Returns a power-of-two table capacity large enough to hold the given number of keys without resizing, with a 0.5
+   * load factor.
+   *
+   * @param expectedSize the number of keys to hold.
+   * @return the table capacity.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  static int capacityFor(int expectedSize) {
+    if (expectedSize < 0) {
+      String msg = String.format("The expected size should not be negative, but was <%d>", expectedSize);
+      throw new IllegalArgumentException(msg);
+    }
+    long capacity = Math.max(MINIMUM_CAPACITY, 2L * expectedSize);
+    return capacity >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int) capacity - 1) << 1;
+  }
+
+  /**
+   * Returns the capacity of an array that has to grow to hold at least the given number of elements, growing it by
+   * half its current length.
+   *
+   * @param length      the current length of the array.
+   * @param minCapacity the number of elements the array has to hold.
+   * @return the new capacity.
+   * @throws IllegalStateException if the array cannot grow enough.
+   */
+  static int grownCapacity(int length, int minCapacity) {
+    if (minCapacity < 0 || minCapacity > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Too many elements");
+    }
+    long capacity = Math.max((long) length + (length >> 1), Math.max(minCapacity, 10));
+    return (int) Math.min(capacity, Integer.MAX_VALUE - 8);
+  }
+
+  /**
+   * Checks that the given initial capacity is not negative.
+   *
+   * @param initialCapacity the given initial capacity.
+   * @return the given initial capacity.
+   * @throws IllegalArgumentException if the given initial capacity is negative.
+   */
+  static int checkCapacity(int initialCapacity) {
+    if (initialCapacity < 0) {
+      String msg = String.format("The initial capacity should not be negative, but was <%d>", initialCapacity);
+      throw new IllegalArgumentException(msg);
+    }
+    return initialCapacity;
+  }
+}
@@ -84,6 +84,28 @@ public class ArrayFormatter_format_Test {
     assertEquals("[6.0, 8.0]", formatter.format(new double[]{6d, 8d}));
   }
 
+  @Test
+  public void should_format_float_array_with_special_values() {
+    assertEquals("[NaN, Infinityf, -1.5f]", formatter.format(new float[]{Float.NaN, Float.POSITIVE_INFINITY, -1.5f}));
+  }
+
+  @Test
+  public void should_format_empty_primitive_arrays() {
+    assertEquals("[]", formatter.format(new int[0]));
+    assertEquals("[]", formatter.format(new long[0]));
+    assertEquals("[]", formatter.format(new double[0]));
+    assertEquals("[]", formatter.format(new float[0]));
+    assertEquals("[]", formatter.format(new byte[0]));
+    assertEquals("[]", formatter.format(new short[0]));
+    assertEquals("[]", formatter.format(new char[0]));
+    assertEquals("[]", formatter.format(new boolean[0]));
+  }
+
+  @Test
+  public void should_format_single_element_primitive_array() {
+    assertEquals("[-9223372036854775808L]", formatter.format(new long[]{Long.MIN_VALUE}));
+  }
+
   @Test
   public void should_format_String_array() {
     assertEquals("['Hello', 'World']", formatter.format(new Object[]{"Hello", "World"}));
@@ -126,4 +148,22 @@ public class ArrayFormatter_format_Test {
       return quote(name);
     }
   }
+
+  @Test
+  public void should_format_deeply_nested_Object_arrays() {
+    Object[] array = {};
+    for (int i = 0; i < 100000; i++) {
+      array = new Object[]{array};
+    }
+    String formatted = formatter.format(array);
+    assertEquals(200002, formatted.length());
+    assertEquals("[[[]]]]]", formatted.substring(99998, 100006));
+  }
+
+  @Test
+  public void should_format_Object_array_that_has_Collection_containing_the_array_as_element() {
+    Object[] array = {"Hello", null};
+    array[1] = java.util.Collections.singletonList(array);
+    assertEquals("['Hello', [[...]]]", formatter.format(array));
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link Arrays#formatInParallel(Object)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Arrays_formatInParallel_Test {
+  private static final int SIZE = ParallelFormatter.DEFAULT_CHUNK_SIZE * 3 + 17;
+
+  @Test
+  public void should_return_null_if_array_is_null() {
+    assertNull(Arrays.formatInParallel(null));
+  }
+
+  @Test
+  public void should_return_null_if_parameter_is_not_array() {
+    assertNull(Arrays.formatInParallel("Hello"));
+  }
+
+  @Test
+  public void should_return_empty_brackets_if_array_is_empty() {
+    assertEquals("[]", Arrays.formatInParallel(new int[0]));
+  }
+
+  @Test
+  public void should_format_large_int_array_like_sequential_format() {
+    int[] array = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      array[i] = i * 31;
+    }
+    assertEquals(Arrays.format(array), Arrays.formatInParallel(array));
+  }
+
+  @Test
+  public void should_format_large_float_array_like_sequential_format() {
+    float[] array = new float[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      array[i] = i % 100 == 0 ? Float.NaN : i / 3f;
+    }
+    assertEquals(Arrays.format(array), Arrays.formatInParallel(array));
+  }
+
+  @Test
+  public void should_format_large_Object_array_like_sequential_format() {
+    Object[] array = new Object[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      array[i] = i % 3 == 0 ? "e" + i : (i % 3 == 1 ? new long[]{i} : null);
+    }
+    array[SIZE - 1] = new Object[]{array};
+    assertEquals(Arrays.format(array), Arrays.formatInParallel(array));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static org.fest.util.Tolerance.absolute;
+import static org.fest.util.Tolerance.relative;
+import static org.fest.util.Tolerance.ulps;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Arrays#indexOfFirstDifference(double[], double[], Tolerance)} and
+ * {@link Arrays#indexOfFirstDifference(float[], float[], Tolerance)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Arrays_indexOfFirstDifference_Test {
+  @Test
+  public void should_return_minus_one_if_doubles_are_within_absolute_tolerance() {
+    double[] expected = {1.0, 2.0, 3.0};
+    double[] actual = {1.05, 1.95, 3.0};
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, actual, absolute(0.1)));
+  }
+
+  @Test
+  public void should_return_index_of_first_double_out_of_absolute_tolerance() {
+    double[] expected = {1.0, 2.0, 3.0, 4.0};
+    double[] actual = {1.0, 2.2, 3.5, 4.0};
+    assertEquals(1, Arrays.indexOfFirstDifference(expected, actual, absolute(0.1)));
+  }
+
+  @Test
+  public void should_compare_doubles_within_relative_tolerance() {
+    double[] expected = {100.0, 1e10, 0.001};
+    double[] actual = {100.5, 1.004e10, 0.0011};
+    assertEquals(2, Arrays.indexOfFirstDifference(expected, actual, relative(0.01)));
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, actual, relative(0.1)));
+  }
+
+  @Test
+  public void should_compare_doubles_within_ulps() {
+    double d = 1.0;
+    double[] expected = {d, 0.0, d};
+    double[] actual = {Math.nextUp(Math.nextUp(d)), -0.0, Math.nextUp(Math.nextUp(Math.nextUp(d)))};
+    assertEquals(2, Arrays.indexOfFirstDifference(expected, actual, ulps(2)));
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, actual, ulps(3)));
+  }
+
+  @Test
+  public void should_compare_doubles_of_opposite_signs_within_ulps() {
+    double[] expected = {Double.MIN_VALUE};
+    double[] actual = {-Double.MIN_VALUE};
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, actual, ulps(2)));
+    assertEquals(0, Arrays.indexOfFirstDifference(expected, actual, ulps(1)));
+    assertEquals(0, Arrays.indexOfFirstDifference(new double[]{Double.MAX_VALUE}, new double[]{-Double.MAX_VALUE},
+        ulps(Long.MAX_VALUE)));
+  }
+
+  @Test
+  public void should_consider_NaN_equal_only_to_itself() {
+    double[] expected = {Double.NaN, Double.POSITIVE_INFINITY};
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, new double[]{Double.NaN, Double.POSITIVE_INFINITY},
+        absolute(1)));
+    assertEquals(0, Arrays.indexOfFirstDifference(expected, new double[]{0.0, Double.POSITIVE_INFINITY}, absolute(1)));
+    assertEquals(1, Arrays.indexOfFirstDifference(expected, new double[]{Double.NaN, Double.MAX_VALUE}, relative(1)));
+    assertEquals(1, Arrays.indexOfFirstDifference(expected, new double[]{Double.NaN, Double.NaN}, ulps(1000)));
+  }
+
+  @Test
+  public void should_consider_infinity_equal_only_to_itself_within_ulps() {
+    double[] expected = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, expected.clone(), ulps(1)));
+    assertEquals(0, Arrays.indexOfFirstDifference(expected, new double[]{Double.MAX_VALUE, Double.NEGATIVE_INFINITY},
+        ulps(1)));
+    assertEquals(0, Arrays.indexOfFirstDifference(new double[]{Double.MAX_VALUE}, expected, ulps(1)));
+    assertEquals(1, Arrays.indexOfFirstDifference(expected, new double[]{Double.POSITIVE_INFINITY, -Double.MAX_VALUE},
+        ulps(1)));
+    assertEquals(0, Arrays.indexOfFirstDifference(new float[]{Float.POSITIVE_INFINITY}, new float[]{Float.MAX_VALUE},
+        ulps(1)));
+  }
+
+  @Test
+  public void should_consider_infinity_equal_only_to_itself_within_large_absolute_tolerance() {
+    assertEquals(0, Arrays.indexOfFirstDifference(new double[]{Double.POSITIVE_INFINITY}, new double[]{1.0},
+        absolute(Double.MAX_VALUE)));
+    assertEquals(0, Arrays.indexOfFirstDifference(new float[]{Float.POSITIVE_INFINITY}, new float[]{1f},
+        absolute(1e300)));
+    assertEquals(-1, Arrays.indexOfFirstDifference(new float[]{Float.POSITIVE_INFINITY, -Float.MAX_VALUE},
+        new float[]{Float.POSITIVE_INFINITY, Float.MAX_VALUE}, absolute(1e300)));
+  }
+
+  @Test
+  public void should_return_length_of_shorter_array_if_lengths_are_different() {
+    double[] expected = {1.0, 2.0};
+    double[] actual = {1.0, 2.0, 3.0};
+    assertEquals(2, Arrays.indexOfFirstDifference(expected, actual, absolute(0)));
+  }
+
+  @Test
+  public void should_compare_floats() {
+    float[] expected = {1f, 2f, 3f};
+    float[] actual = {1f, 2.05f, Math.nextUp(3f)};
+    assertEquals(1, Arrays.indexOfFirstDifference(expected, actual, absolute(0.01)));
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, actual, absolute(0.1)));
+    assertEquals(-1, Arrays.indexOfFirstDifference(expected, actual, relative(0.03)));
+    assertEquals(1, Arrays.indexOfFirstDifference(expected, actual, ulps(1)));
+    assertEquals(-1, Arrays.indexOfFirstDifference(new float[]{3f}, new float[]{Math.nextUp(3f)}, ulps(1)));
+    assertEquals(-1, Arrays.indexOfFirstDifference(new float[]{-0f, Float.NaN}, new float[]{0f, Float.NaN}, ulps(0)));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_tolerance_is_null() {
+    Arrays.indexOfFirstDifference(new double[0], new double[0], null);
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.fest.util.CacheSpec.EvictionPolicy.WINDOW_TINY_LFU;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Cache}.
+ *
+ * @author Alex Ruiz
+ */
+public class Cache_Test {
+  private final AtomicLong nanos = new AtomicLong();
+
+  @Test
+  public void should_evict_least_recently_used_entry() {
+    Cache<String, Integer> cache = Maps.newCache(2);
+    cache.put("one", 1);
+    cache.put("two", 2);
+    cache.get("one");
+    cache.put("three", 3);
+    assertEquals(2, cache.size());
+    assertTrue(cache.containsKey("one"));
+    assertFalse(cache.containsKey("two"));
+    assertTrue(cache.containsKey("three"));
+    assertEquals(1, cache.evictionCount());
+  }
+
+  @Test
+  public void should_never_keep_more_than_maximum_size() {
+    Cache<Integer, Integer> cache = Maps.newCache(100);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, i);
+      assertTrue(cache.size() <= 100);
+    }
+    assertEquals(900, cache.evictionCount());
+    for (int i = 900; i < 1000; i++) {
+      assertEquals(Integer.valueOf(i), cache.get(i));
+    }
+  }
+
+  @Test
+  public void should_record_hits_and_misses() {
+    Cache<String, Integer> cache = Maps.newCache(10);
+    cache.put("one", 1);
+    assertEquals(Integer.valueOf(1), cache.get("one"));
+    assertNull(cache.get("two"));
+    assertNull(cache.get("three"));
+    assertEquals(1, cache.hitCount());
+    assertEquals(2, cache.missCount());
+    assertEquals(1.0 / 3, cache.hitRate(), 0.0);
+  }
+
+  @Test
+  public void should_load_missing_values_once() {
+    Cache<String, Integer> cache = Maps.newCache(10);
+    AtomicInteger loads = new AtomicInteger();
+    assertEquals(Integer.valueOf(4), cache.computeIfAbsent("Leia", key -> {
+      loads.incrementAndGet();
+      return key.length();
+    }));
+    assertEquals(Integer.valueOf(4), cache.computeIfAbsent("Leia", key -> loads.incrementAndGet()));
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+  }
+
+  @Test
+  public void should_not_store_null_loaded_values() {
+    Cache<String, Integer> cache = Maps.newCache(10);
+    assertNull(cache.computeIfAbsent("Leia", key -> null));
+    assertTrue(cache.isEmpty());
+  }
+
+  @Test
+  public void should_expire_entries_after_write() {
+    Cache<String, Integer> cache = Maps.newCache(CacheSpec.maximumSize(10)
+                                                          .expiringAfterWrite(10, TimeUnit.NANOSECONDS)
+                                                          .withTicker(nanos::get));
+    cache.put("one", 1);
+    nanos.set(5);
+    assertEquals(Integer.valueOf(1), cache.get("one"));
+    nanos.set(10);
+    assertNull(cache.get("one"));
+    assertTrue(cache.isEmpty());
+    assertEquals(1, cache.evictionCount());
+  }
+
+  @Test
+  public void should_expire_entries_after_access() {
+    Cache<String, Integer> cache = Maps.newCache(CacheSpec.maximumSize(10)
+                                                          .expiringAfterAccess(10, TimeUnit.NANOSECONDS)
+                                                          .withTicker(nanos::get));
+    cache.put("one", 1);
+    cache.put("two", 2);
+    nanos.set(8);
+    assertEquals(Integer.valueOf(1), cache.get("one"));
+    nanos.set(16);
+    assertEquals(Integer.valueOf(1), cache.get("one"));
+    assertFalse(cache.containsKey("two"));
+    cache.cleanUp();
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void should_reload_expired_entries() {
+    Cache<String, Integer> cache = Maps.newCache(CacheSpec.maximumSize(10)
+                                                          .expiringAfterWrite(10, TimeUnit.NANOSECONDS)
+                                                          .withTicker(nanos::get));
+    cache.put("one", 1);
+    nanos.set(10);
+    assertEquals(Integer.valueOf(2), cache.computeIfAbsent("one", key -> 2));
+    assertEquals(Integer.valueOf(2), cache.get("one"));
+  }
+
+  @Test
+  public void should_keep_popular_entries_with_frequency_based_eviction() {
+    Cache<Integer, Integer> cache = Maps.newCache(CacheSpec.maximumSize(100).evictingWith(WINDOW_TINY_LFU));
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, i);
+    }
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 50; i++) {
+        cache.get(i);
+      }
+      cache.cleanUp();
+    }
+    // a scan of entries used only once should not flush the popular ones.
+    for (int i = 1000; i < 2000; i++) {
+      cache.put(i, i);
+    }
+    assertTrue(cache.size() <= 100);
+    for (int i = 0; i < 50; i++) {
+      assertTrue(cache.containsKey(i));
+    }
+  }
+
+  @Test
+  public void should_support_ConcurrentMap_operations() {
+    Cache<String, Integer> cache = Maps.newCache(10);
+    assertNull(cache.putIfAbsent("one", 1));
+    assertEquals(Integer.valueOf(1), cache.putIfAbsent("one", 2));
+    assertEquals(Integer.valueOf(1), cache.replace("one", 3));
+    assertFalse(cache.replace("one", 1, 4));
+    assertTrue(cache.replace("one", 3, 4));
+    assertFalse(cache.remove("one", 3));
+    assertTrue(cache.remove("one", 4));
+    assertNull(cache.replace("one", 5));
+    assertEquals(Integer.valueOf(6), cache.merge("two", 6, Integer::sum));
+    assertEquals(Integer.valueOf(12), cache.merge("two", 6, Integer::sum));
+    assertEquals(Integer.valueOf(12), cache.remove("two"));
+    assertTrue(cache.isEmpty());
+  }
+
+  @Test
+  public void should_iterate_over_entries() {
+    Cache<String, Integer> cache = Maps.newCache(10);
+    cache.put("one", 1);
+    cache.put("two", 2);
+    Map<String, Integer> expected = new HashMap<String, Integer>();
+    expected.put("one", 1);
+    expected.put("two", 2);
+    assertEquals(expected, cache);
+    Iterator<Map.Entry<String, Integer>> entries = cache.entrySet().iterator();
+    Map.Entry<String, Integer> entry = entries.next();
+    entry.setValue(8);
+    assertEquals(Integer.valueOf(8), cache.get(entry.getKey()));
+    entries.remove();
+    assertFalse(cache.containsKey(entry.getKey()));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void should_clear_entries() {
+    Cache<String, Integer> cache = Maps.newCache(10);
+    cache.put("one", 1);
+    cache.clear();
+    assertTrue(cache.isEmpty());
+    cache.put("two", 2);
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void should_stay_bounded_under_concurrent_use() throws Exception {
+    Cache<Integer, Integer> cache = Maps.newCache(CacheSpec.maximumSize(64).evictingWith(WINDOW_TINY_LFU));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<?>[] futures = new Future<?>[4];
+      for (int t = 0; t < futures.length; t++) {
+        int seed = t;
+        futures[t] = executor.submit(() -> {
+          for (int i = 0; i < 20000; i++) {
+            int key = (i * 31 + seed) % 256;
+            Integer value = cache.computeIfAbsent(key, k -> k * 2);
+            assertEquals(Integer.valueOf(key * 2), value);
+            if (i % 7 == 0) {
+              cache.remove(key);
+            }
+          }
+        });
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    cache.cleanUp();
+    assertTrue(cache.size() <= 64);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Sets.newLinkedHashSet;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Collections#containsAll(java.util.Collection, java.util.Collection)} and
+ * {@link Collections#containsAll(java.util.Collection, java.util.Collection, HashingStrategy)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_containsAll_Test {
+  private static final HashingStrategy<String> IGNORING_CASE = new HashingStrategy<String>() {
+    @Override
+    public int hashCodeOf(String s) {
+      return s == null ? 0 : s.toLowerCase().hashCode();
+    }
+
+    @Override
+    public boolean areEqual(String s1, String s2) {
+      return s1 == null ? s2 == null : s1.equalsIgnoreCase(s2);
+    }
+  };
+
+  @Test
+  public void should_return_true_if_Collection_contains_all_elements() {
+    assertTrue(Collections.containsAll(asList("Luke", "Yoda", "Leia"), asList("Leia", "Luke")));
+    assertTrue(Collections.containsAll(asList("Luke", "Yoda"), asList("Yoda", "Luke", "Yoda", "Luke")));
+  }
+
+  @Test
+  public void should_return_false_if_Collection_does_not_contain_all_elements() {
+    assertFalse(Collections.containsAll(asList("Luke", "Yoda", "Leia"), asList("Leia", "Han")));
+    assertFalse(Collections.containsAll(asList("Luke", "Yoda"), asList("Yoda", "Luke", "Han")));
+  }
+
+  @Test
+  public void should_return_true_if_there_are_no_elements_to_look_for() {
+    assertTrue(Collections.containsAll(asList("Luke"), asList()));
+  }
+
+  @Test
+  public void should_use_Set_as_it_is() {
+    assertTrue(Collections.containsAll(newLinkedHashSet("Luke", "Yoda"), asList("Yoda")));
+    assertFalse(Collections.containsAll(newLinkedHashSet("Luke", "Yoda"), asList("Han")));
+  }
+
+  @Test
+  public void should_compare_elements_with_given_strategy() {
+    assertTrue(Collections.containsAll(asList("LUKE", "Yoda", "Leia"), asList("luke", "yoda"), IGNORING_CASE));
+    assertFalse(Collections.containsAll(asList("LUKE", "Yoda"), asList("luke", "han", "yoda"), IGNORING_CASE));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Sets.newLinkedHashSet;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Collections#containsNone(java.util.Collection, java.util.Collection)} and
+ * {@link Collections#containsNone(java.util.Collection, java.util.Collection, HashingStrategy)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_containsNone_Test {
+  private static final HashingStrategy<String> IGNORING_CASE = new HashingStrategy<String>() {
+    @Override
+    public int hashCodeOf(String s) {
+      return s == null ? 0 : s.toLowerCase().hashCode();
+    }
+
+    @Override
+    public boolean areEqual(String s1, String s2) {
+      return s1 == null ? s2 == null : s1.equalsIgnoreCase(s2);
+    }
+  };
+
+  @Test
+  public void should_return_true_if_Collection_contains_none_of_elements() {
+    assertTrue(Collections.containsNone(asList("Luke", "Yoda", "Leia"), asList("Han")));
+    assertTrue(Collections.containsNone(asList("Luke"), asList("Han", "Chewbacca")));
+  }
+
+  @Test
+  public void should_return_false_if_Collection_contains_any_of_elements() {
+    assertFalse(Collections.containsNone(asList("Luke", "Yoda", "Leia"), asList("Han", "Leia")));
+    assertFalse(Collections.containsNone(asList("Luke"), asList("Han", "Luke")));
+  }
+
+  @Test
+  public void should_use_Set_as_it_is() {
+    assertFalse(Collections.containsNone(asList("Luke", "Yoda"), newLinkedHashSet("Yoda")));
+    assertTrue(Collections.containsNone(newLinkedHashSet("Luke", "Yoda"), asList("Han")));
+  }
+
+  @Test
+  public void should_compare_elements_with_given_strategy() {
+    assertFalse(Collections.containsNone(asList("LUKE", "Yoda"), asList("han", "luke"), IGNORING_CASE));
+    assertTrue(Collections.containsNone(asList("LUKE", "Yoda"), asList("han"), IGNORING_CASE));
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Collections#differenceInAnyOrder(Collection, Collection)} and
+ * {@link Collections#differenceInAnyOrder(Collection, Collection, Comparator)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_differenceInAnyOrder_Test {
+  private static final Comparator<String> NATURAL_ORDER = new Comparator<String>() {
+    @Override
+    public int compare(String s1, String s2) {
+      return s1.compareTo(s2);
+    }
+  };
+
+  @Test
+  public void should_return_empty_difference_if_Collections_have_same_elements_in_any_order() {
+    MultisetDifference<String> difference = Collections.differenceInAnyOrder(asList("Luke", "Yoda", "Luke"),
+        asList("Yoda", "Luke", "Luke"));
+    assertTrue(difference.isEmpty());
+  }
+
+  @Test
+  public void should_return_missing_and_unexpected_elements() {
+    List<String> expected = asList("Luke", "Yoda", "Luke", "Leia", null);
+    List<String> actual = asList("Han", "Luke", "Yoda", "Yoda", null);
+    MultisetDifference<String> difference = Collections.differenceInAnyOrder(expected, actual);
+    assertEquals(newArrayList("Luke", "Leia"), difference.missing());
+    assertEquals(newArrayList("Han", "Yoda"), difference.unexpected());
+  }
+
+  @Test
+  public void should_return_missing_and_unexpected_elements_sorted_when_using_Comparator() {
+    List<String> expected = asList("Luke", "Yoda", "Luke", "Leia");
+    List<String> actual = asList("Han", "Luke", "Yoda", "Yoda");
+    MultisetDifference<String> difference = Collections.differenceInAnyOrder(expected, actual, NATURAL_ORDER);
+    assertEquals(newArrayList("Leia", "Luke"), difference.missing());
+    assertEquals(newArrayList("Han", "Yoda"), difference.unexpected());
+  }
+
+  @Test
+  public void should_return_same_elements_with_and_without_Comparator() {
+    List<String> expected = asList("b", "a", "c", "a", "d");
+    List<String> actual = asList("a", "e", "d", "d", "b");
+    MultisetDifference<String> hashed = Collections.differenceInAnyOrder(expected, actual);
+    MultisetDifference<String> sorted = Collections.differenceInAnyOrder(expected, actual, NATURAL_ORDER);
+    assertEquals("missing: ['a', 'c'], unexpected: ['e', 'd']", hashed.toString());
+    assertEquals("missing: ['a', 'c'], unexpected: ['d', 'e']", sorted.toString());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_expected_is_null() {
+    Collections.differenceInAnyOrder(null, asList("Luke"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_return_lists_that_cannot_be_modified() {
+    Collections.differenceInAnyOrder(asList("Luke"), asList("Yoda")).missing().clear();
+  }
+}
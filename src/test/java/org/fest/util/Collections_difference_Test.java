@@ -0,0 +1,78 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Sets.newLinkedHashSet;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Collections#difference(java.util.Collection, java.util.Collection)} and
+ * {@link Collections#difference(java.util.Collection, java.util.Collection, HashingStrategy)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_difference_Test {
+  private static final HashingStrategy<String> IGNORING_CASE = new HashingStrategy<String>() {
+    @Override
+    public int hashCodeOf(String s) {
+      return s == null ? 0 : s.toLowerCase().hashCode();
+    }
+
+    @Override
+    public boolean areEqual(String s1, String s2) {
+      return s1 == null ? s2 == null : s1.equalsIgnoreCase(s2);
+    }
+  };
+
+  @Test
+  public void should_return_elements_of_first_Collection_not_in_second_one() {
+    assertEquals(newArrayList("Luke", "Luke", null), Collections.difference(asList("Luke", "Yoda", "Luke", null),
+        asList("Yoda", "Leia")));
+  }
+
+  @Test
+  public void should_return_same_elements_if_second_Collection_is_larger() {
+    assertEquals(newArrayList("Luke"), Collections.difference(asList("Luke", "Yoda"),
+        asList("Yoda", "Leia", "Han", "Chewbacca")));
+  }
+
+  @Test
+  public void should_use_Set_as_it_is() {
+    assertEquals(newArrayList("Luke"), Collections.difference(asList("Luke", "Yoda"), newLinkedHashSet("Yoda")));
+  }
+
+  @Test
+  public void should_compare_elements_with_given_strategy() {
+    assertEquals(newArrayList("Yoda"), Collections.difference(asList("LUKE", "Yoda"), asList("luke"), IGNORING_CASE));
+    assertEquals(newArrayList("Yoda"), Collections.difference(asList("LUKE", "Yoda"),
+        asList("luke", "Leia", "Han"), IGNORING_CASE));
+  }
+
+  @Test
+  public void should_compare_arrays_by_their_elements_with_deep_strategy() {
+    Object[] luke = {"Luke"};
+    assertEquals(0, Collections.difference(asList((Object) luke), asList((Object) new Object[]{"Luke"}),
+        HashingStrategies.deep()).size());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_strategy_is_null() {
+    Collections.difference(asList("Luke"), asList("Yoda"), null);
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Collection;
 import static java.util.Arrays.asList;
 import static org.fest.util.Collections.duplicatesFrom;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -55,4 +56,24 @@ public class Collections_duplicatesFrom_Test {
     Collection<String> duplicates = duplicatesFrom(null);
     assertTrue(duplicates.isEmpty());
   }
+
+  @Test
+  public void should_return_duplicates_according_to_given_strategy() {
+    Collection<String> duplicates = duplicatesFrom(asList("Merry", "frodo", "MERRY", "Sam", "Frodo", "merry"),
+        HashingStrategies.caseInsensitive());
+    assertArrayEquals(new String[]{"MERRY", "Frodo"}, duplicates.toArray());
+  }
+
+  @Test
+  public void should_return_duplicate_arrays_with_deep_strategy() {
+    Collection<Object> duplicates = duplicatesFrom(asList((Object) new int[]{6}, "Sam", new int[]{6}),
+        HashingStrategies.deep());
+    assertEquals(1, duplicates.size());
+  }
+
+  @Test
+  public void should_not_return_any_duplicates_with_strategy_if_collection_is_null() {
+    Collection<String> duplicates = duplicatesFrom(null, HashingStrategies.caseInsensitive());
+    assertTrue(duplicates.isEmpty());
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Collections#formatInParallel(java.util.Collection)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_formatInParallel_Test {
+  private static final int SIZE = ParallelFormatter.DEFAULT_CHUNK_SIZE * 3 + 17;
+
+  @Test
+  public void should_return_null_if_Collection_is_null() {
+    assertNull(Collections.formatInParallel(null));
+  }
+
+  @Test
+  public void should_return_empty_brackets_if_Collection_is_empty() {
+    assertEquals("[]", Collections.formatInParallel(new ArrayList<String>()));
+  }
+
+  @Test
+  public void should_format_large_random_access_List_like_sequential_format() {
+    List<Object> list = new ArrayList<Object>();
+    fill(list);
+    list.add(list);
+    assertEquals(Collections.format(list), Collections.formatInParallel(list));
+  }
+
+  @Test
+  public void should_format_large_List_with_indirect_cycle_like_sequential_format() {
+    List<Object> list = new ArrayList<Object>();
+    List<Object> nested = new ArrayList<Object>();
+    nested.add(list);
+    list.add(nested);
+    fill(list);
+    String formatted = Collections.formatInParallel(list);
+    assertEquals(Collections.format(list), formatted);
+    assertTrue(formatted.startsWith("[[(this Collection)], 'e0', 1L, "));
+  }
+
+  @Test
+  public void should_format_large_sequential_List_like_sequential_format() {
+    List<Object> list = new LinkedList<Object>();
+    fill(list);
+    assertEquals(Collections.format(list), Collections.formatInParallel(list));
+  }
+
+  private static void fill(List<Object> list) {
+    for (int i = 0; i < SIZE; i++) {
+      list.add(i % 2 == 0 ? "e" + i : (Object) (long) i);
+    }
+  }
+}
@@ -47,4 +47,26 @@ public class Collections_format_Test {
     List<? extends Object> list = asList("First", 3);
     assertEquals("['First', 3]", Collections.format(list));
   }
+
+  @Test
+  public void should_format_Collection_that_contains_itself() {
+    List<Object> list = new ArrayList<Object>();
+    list.add("First");
+    list.add(new Object[] { list, 2 });
+    assertEquals("['First', [(this Collection), 2]]", Collections.format(list));
+  }
+
+  @Test
+  public void should_format_deeply_nested_Collections() {
+    List<Object> list = new ArrayList<Object>();
+    List<Object> innermost = list;
+    for (int i = 0; i < 100000; i++) {
+      List<Object> nested = new ArrayList<Object>();
+      innermost.add(nested);
+      innermost = nested;
+    }
+    String formatted = Collections.format(list);
+    assertEquals(200002, formatted.length());
+    assertEquals("[[[]]]]]", formatted.substring(99998, 100006));
+  }
 }
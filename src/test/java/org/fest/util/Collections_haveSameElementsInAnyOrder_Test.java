@@ -0,0 +1,82 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Collections#haveSameElementsInAnyOrder(java.util.Collection, java.util.Collection)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_haveSameElementsInAnyOrder_Test {
+  @Test
+  public void should_return_true_if_both_Collections_are_null() {
+    assertTrue(Collections.haveSameElementsInAnyOrder(null, null));
+  }
+
+  @Test
+  public void should_return_false_if_one_Collection_is_null() {
+    assertFalse(Collections.haveSameElementsInAnyOrder(asList("Luke"), null));
+    assertFalse(Collections.haveSameElementsInAnyOrder(null, asList("Luke")));
+  }
+
+  @Test
+  public void should_return_true_if_Collections_have_same_elements_in_different_order() {
+    assertTrue(Collections.haveSameElementsInAnyOrder(asList("Luke", "Yoda", null, "Luke"),
+        asList("Luke", null, "Luke", "Yoda")));
+  }
+
+  @Test
+  public void should_return_false_if_elements_appear_a_different_number_of_times() {
+    assertFalse(Collections.haveSameElementsInAnyOrder(asList("Luke", "Luke", "Yoda"), asList("Luke", "Yoda", "Yoda")));
+  }
+
+  @Test
+  public void should_return_false_if_sizes_are_different() {
+    assertFalse(Collections.haveSameElementsInAnyOrder(asList("Luke"), asList("Luke", "Luke")));
+  }
+
+  @Test
+  public void should_compare_arrays_by_their_elements() {
+    List<int[]> l1 = new ArrayList<int[]>();
+    l1.add(new int[]{6, 8});
+    l1.add(new int[]{10});
+    List<int[]> l2 = new ArrayList<int[]>();
+    l2.add(new int[]{10});
+    l2.add(new int[]{6, 8});
+    assertTrue(Collections.haveSameElementsInAnyOrder(l1, l2));
+  }
+
+  @Test
+  public void should_compare_large_Collections() {
+    List<Integer> l1 = new ArrayList<Integer>();
+    List<Integer> l2 = new ArrayList<Integer>();
+    for (int i = 0; i < 100000; i++) {
+      l1.add(i % 1000);
+      l2.add((99999 - i) % 1000);
+    }
+    assertTrue(Collections.haveSameElementsInAnyOrder(l1, l2));
+    l2.set(0, -1);
+    assertFalse(Collections.haveSameElementsInAnyOrder(l1, l2));
+  }
+}
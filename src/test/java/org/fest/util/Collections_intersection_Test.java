@@ -0,0 +1,65 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Sets.newLinkedHashSet;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Collections#intersection(java.util.Collection, java.util.Collection)} and
+ * {@link Collections#intersection(java.util.Collection, java.util.Collection, HashingStrategy)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_intersection_Test {
+  private static final HashingStrategy<String> IGNORING_CASE = new HashingStrategy<String>() {
+    @Override
+    public int hashCodeOf(String s) {
+      return s == null ? 0 : s.toLowerCase().hashCode();
+    }
+
+    @Override
+    public boolean areEqual(String s1, String s2) {
+      return s1 == null ? s2 == null : s1.equalsIgnoreCase(s2);
+    }
+  };
+
+  @Test
+  public void should_return_elements_of_first_Collection_also_in_second_one() {
+    assertEquals(newArrayList("Yoda", null, "Yoda"), Collections.intersection(asList("Luke", "Yoda", null, "Yoda"),
+        asList(null, "Yoda", "Leia")));
+  }
+
+  @Test
+  public void should_return_same_elements_if_second_Collection_is_larger() {
+    assertEquals(newArrayList("Yoda"), Collections.intersection(asList("Luke", "Yoda"),
+        asList("Yoda", "Leia", "Han", "Chewbacca")));
+  }
+
+  @Test
+  public void should_use_Set_as_it_is() {
+    assertEquals(newArrayList("Yoda"), Collections.intersection(asList("Luke", "Yoda"), newLinkedHashSet("Yoda")));
+  }
+
+  @Test
+  public void should_compare_elements_with_given_strategy() {
+    assertEquals(newArrayList("LUKE"), Collections.intersection(asList("LUKE", "Yoda"), asList("luke"),
+        IGNORING_CASE));
+  }
+}
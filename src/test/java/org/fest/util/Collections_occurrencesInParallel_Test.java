@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.fest.util.Collections.occurrencesIn;
+import static org.fest.util.Collections.occurrencesInParallel;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Collections#occurrencesInParallel(Stream)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_occurrencesInParallel_Test {
+  @Test
+  public void should_count_occurrences_of_each_element() {
+    Stream<Integer> elements = IntStream.range(0, 100000).parallel().mapToObj(i -> i % 100);
+    Occurrences<Integer> occurrences = occurrencesInParallel(elements);
+    assertEquals(100, occurrences.distinctCount());
+    assertEquals(100000, occurrences.totalCount());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(1000, occurrences.countOf(i));
+    }
+    assertEquals(100, occurrences.duplicates().size());
+  }
+
+  @Test
+  public void should_count_like_sequential_mode() {
+    Occurrences<String> parallel = occurrencesInParallel(Stream.of("Frodo", null, "Sam", "Frodo", null).parallel());
+    Occurrences<String> sequential = occurrencesIn(Stream.of("Frodo", null, "Sam", "Frodo", null));
+    assertEquals(sequential.toMap(), parallel.toMap());
+    assertEquals(2, parallel.countOf(null));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_Stream_is_null() {
+    occurrencesInParallel(null);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Collections.occurrencesIn;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Collections#occurrencesIn(Iterable)}, {@link Collections#occurrencesIn(Iterable, HashingStrategy)},
+ * {@link Collections#occurrencesIn(Iterator)} and {@link Collections#occurrencesIn(Stream)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Collections_occurrencesIn_Test {
+  @Test
+  public void should_count_occurrences_of_each_element() {
+    Occurrences<String> occurrences = occurrencesIn(asList("Merry", "Frodo", "Merry", "Sam", "Frodo", "Merry"));
+    assertEquals(3, occurrences.countOf("Merry"));
+    assertEquals(2, occurrences.countOf("Frodo"));
+    assertEquals(1, occurrences.countOf("Sam"));
+    assertEquals(0, occurrences.countOf("Gandalf"));
+    assertEquals(3, occurrences.distinctCount());
+    assertEquals(6, occurrences.totalCount());
+  }
+
+  @Test
+  public void should_return_duplicates() {
+    Occurrences<String> occurrences = occurrencesIn(asList("Merry", "Frodo", "Merry", "Sam", "Frodo"));
+    List<String> duplicates = occurrences.duplicates();
+    assertEquals(2, duplicates.size());
+    assertEquals(asList("Frodo", "Merry"), new ArrayList<String>(new TreeSet<String>(duplicates)));
+  }
+
+  @Test
+  public void should_count_null_elements() {
+    Occurrences<String> occurrences = occurrencesIn(asList("Frodo", null, null));
+    assertEquals(2, occurrences.countOf(null));
+    assertEquals(asList((String) null), occurrences.duplicates());
+  }
+
+  @Test
+  public void should_count_elements_of_Iterator() {
+    Occurrences<Integer> occurrences = occurrencesIn(asList(1, 2, 1).iterator());
+    assertEquals(2, occurrences.countOf(1));
+    assertEquals(1, occurrences.countOf(2));
+  }
+
+  @Test
+  public void should_count_elements_of_Stream() {
+    Occurrences<Integer> occurrences = occurrencesIn(Stream.iterate(0, i -> i + 1).limit(1000).map(i -> i % 10));
+    assertEquals(10, occurrences.distinctCount());
+    assertEquals(100, occurrences.countOf(7));
+  }
+
+  @Test
+  public void should_count_elements_using_strategy() {
+    HashingStrategy<String> caseInsensitive = HashingStrategies.caseInsensitive();
+    Occurrences<String> occurrences = occurrencesIn(asList("Frodo", "FRODO", "Sam"), caseInsensitive);
+    assertEquals(2, occurrences.countOf("frodo"));
+    assertEquals(2, occurrences.distinctCount());
+  }
+
+  @Test
+  public void should_visit_each_distinct_element_with_its_count() {
+    Occurrences<String> occurrences = occurrencesIn(asList("Frodo", "Sam", "Frodo"));
+    Map<String, Integer> visited = new LinkedHashMap<String, Integer>();
+    occurrences.forEach(visited::put);
+    assertEquals(occurrences.toMap(), visited);
+    assertEquals(2, visited.get("Frodo").intValue());
+    assertEquals(1, visited.get("Sam").intValue());
+  }
+
+  @Test
+  public void should_count_empty_Iterable() {
+    Occurrences<String> occurrences = occurrencesIn(new ArrayList<String>());
+    assertEquals(0, occurrences.distinctCount());
+    assertEquals(0, occurrences.totalCount());
+    assertEquals(0, occurrences.duplicates().size());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_Iterable_is_null() {
+    occurrencesIn((Iterable<String>) null);
+  }
+}
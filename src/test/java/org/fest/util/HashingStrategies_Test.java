@@ -0,0 +1,78 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HashingStrategies}.
+ *
+ * @author Alex Ruiz
+ */
+public class HashingStrategies_Test {
+  @Test
+  public void natural_should_use_equals_and_hashCode() {
+    HashingStrategy<Object> natural = HashingStrategies.natural();
+    assertTrue(natural.areEqual("Yoda", "Yoda"));
+    assertTrue(natural.areEqual(null, null));
+    assertFalse(natural.areEqual(new int[]{6}, new int[]{6}));
+    assertEquals("Yoda".hashCode(), natural.hashCodeOf("Yoda"));
+  }
+
+  @Test
+  public void deep_should_compare_arrays_by_their_elements() {
+    HashingStrategy<Object> deep = HashingStrategies.deep();
+    assertTrue(deep.areEqual(new int[]{6}, new int[]{6}));
+    assertEquals(deep.hashCodeOf(new int[]{6}), deep.hashCodeOf(new int[]{6}));
+  }
+
+  @Test
+  public void identity_should_compare_references() {
+    HashingStrategy<Object> identity = HashingStrategies.identity();
+    String yoda = "Yoda";
+    assertTrue(identity.areEqual(yoda, yoda));
+    assertFalse(identity.areEqual(yoda, new String("Yoda")));
+  }
+
+  @Test
+  public void caseInsensitive_should_ignore_case() {
+    HashingStrategy<String> caseInsensitive = HashingStrategies.caseInsensitive();
+    assertTrue(caseInsensitive.areEqual("YODA", "yoda"));
+    assertFalse(caseInsensitive.areEqual("Yoda", "Luke"));
+    assertFalse(caseInsensitive.areEqual("Yoda", null));
+    assertEquals(caseInsensitive.hashCodeOf("YODA"), caseInsensitive.hashCodeOf("yoda"));
+    assertEquals(caseInsensitive.hashCodeOf("\u0130"), caseInsensitive.hashCodeOf("i"));
+    assertEquals(0, caseInsensitive.hashCodeOf(null));
+  }
+
+  @Test
+  public void byKey_should_compare_and_hash_extracted_keys() {
+    HashingStrategy<String> byLength = HashingStrategies.byKey(String::length);
+    assertTrue(byLength.areEqual("Yoda", "Luke"));
+    assertFalse(byLength.areEqual("Yoda", "Leia Organa"));
+    assertFalse(byLength.areEqual("Yoda", null));
+    assertTrue(byLength.areEqual(null, null));
+    assertEquals(byLength.hashCodeOf("Yoda"), byLength.hashCodeOf("Luke"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void byKey_should_throw_error_if_function_is_null() {
+    HashingStrategies.byKey(null);
+  }
+}
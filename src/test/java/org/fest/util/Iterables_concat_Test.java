@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Iterables#concat(Iterable[])}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_concat_Test {
+  @Test
+  public void should_return_elements_of_all_Iterables_in_order() {
+    Iterable<Object> all = Iterables.<Object>concat(asList("Frodo"), new ArrayList<String>(), asList(1, 2));
+    assertEquals(asList("Frodo", 1, 2), newArrayList(all));
+  }
+
+  @Test
+  public void should_see_changes_to_given_Iterables() {
+    List<String> first = newArrayList("Frodo");
+    Iterable<String> all = Iterables.concat(first, asList("Sam"));
+    first.add("Merry");
+    assertEquals(asList("Frodo", "Merry", "Sam"), newArrayList(all));
+  }
+
+  @Test
+  public void should_return_empty_Iterable_if_there_are_no_Iterables() {
+    assertTrue(Iterables.isNullOrEmpty(Iterables.<String>concat()));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_any_Iterable_is_null() {
+    Iterables.concat(asList("Frodo"), null);
+  }
+}
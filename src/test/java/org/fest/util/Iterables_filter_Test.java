@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Iterables#filter(Iterable, java.util.function.Predicate)} and
+ * {@link Iterables#filter(Iterable, Class)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_filter_Test {
+  @Test
+  public void should_return_elements_satisfying_predicate() {
+    Iterable<Integer> even = Iterables.filter(asList(1, 2, 3, 4, null), i -> i != null && i % 2 == 0);
+    assertEquals(asList(2, 4), newArrayList(even));
+    assertEquals(asList(2, 4), newArrayList(even));
+  }
+
+  @Test
+  public void should_return_elements_of_given_type() {
+    List<Object> elements = asList("Frodo", 1, "Sam", 2L);
+    List<String> strings = newArrayList(Iterables.filter(elements, String.class));
+    assertEquals(asList("Frodo", "Sam"), strings);
+  }
+
+  @Test
+  public void should_filter_lazily() {
+    Iterable<Integer> naturals = () -> Stream.iterate(0, i -> i + 1).iterator();
+    Iterable<Integer> multiplesOfThree = Iterables.filter(naturals, i -> i % 3 == 0);
+    assertEquals(asList(0, 3, 6), newArrayList(Iterables.limit(multiplesOfThree, 3)));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_predicate_is_null() {
+    Iterables.filter(asList(1), (java.util.function.Predicate<Integer>) null);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Iterables#hasSizeExactly(Iterable, long)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_hasSizeExactly_Test {
+  @Test
+  public void should_compare_size_of_Collection() {
+    assertTrue(Iterables.hasSizeExactly(asList(1, 2, 3), 3));
+    assertFalse(Iterables.hasSizeExactly(asList(1, 2, 3), 2));
+    assertFalse(Iterables.hasSizeExactly(asList(1, 2, 3), 4));
+  }
+
+  @Test
+  public void should_stop_iterating_once_size_is_exceeded() {
+    Iterable<Integer> naturals = () -> Stream.iterate(0, i -> i + 1).iterator();
+    assertFalse(Iterables.hasSizeExactly(naturals, 1000));
+  }
+
+  @Test
+  public void should_count_elements_of_Iterable() {
+    Iterable<Integer> elements = Iterables.filter(asList(1, 2, 3, 4), i -> i % 2 == 0);
+    assertTrue(Iterables.hasSizeExactly(elements, 2));
+    assertFalse(Iterables.hasSizeExactly(elements, 1));
+    assertFalse(Iterables.hasSizeExactly(elements, 3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_size_is_negative() {
+    Iterables.hasSizeExactly(asList(1), -1);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link Iterables#limit(Iterable, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_limit_Test {
+  @Test
+  public void should_return_first_elements() {
+    assertEquals(asList(1, 2), newArrayList(Iterables.limit(asList(1, 2, 3), 2)));
+    assertEquals(asList(1, 2, 3), newArrayList(Iterables.limit(asList(1, 2, 3), 8)));
+  }
+
+  @Test
+  public void should_not_read_elements_past_limit() {
+    Iterator<Integer> naturals = Stream.iterate(0, i -> i + 1).iterator();
+    Iterator<Integer> limited = Iterables.limit(() -> naturals, 2).iterator();
+    limited.next();
+    limited.next();
+    assertFalse(limited.hasNext());
+    assertEquals(Integer.valueOf(2), naturals.next());
+  }
+
+  @Test
+  public void should_return_empty_Iterable_if_limit_is_zero() {
+    assertFalse(Iterables.limit(asList(1, 2, 3), 0).iterator().hasNext());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_limit_is_negative() {
+    Iterables.limit(asList(1), -1);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link Iterables#memoize(Iterable)} and {@link Iterables#memoize(Iterable, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_memoize_Test {
+  @Test
+  public void should_read_source_only_once() {
+    Iterator<String> source = asList("Frodo", "Sam").iterator();
+    Iterable<String> memoized = Iterables.memoize(() -> source);
+    assertEquals(asList("Frodo", "Sam"), newArrayList(memoized));
+    assertEquals(asList("Frodo", "Sam"), newArrayList(memoized));
+    assertEquals(2, Iterables.sizeOf(memoized));
+  }
+
+  @Test
+  public void should_read_source_only_when_elements_are_needed() {
+    AtomicInteger iterations = new AtomicInteger();
+    Iterator<Integer> naturals = Stream.iterate(0, i -> i + 1).iterator();
+    Iterable<Integer> memoized = Iterables.memoize(() -> {
+      iterations.incrementAndGet();
+      return naturals;
+    });
+    assertEquals(0, iterations.get());
+    Iterator<Integer> first = memoized.iterator();
+    first.next();
+    Iterator<Integer> second = memoized.iterator();
+    assertEquals(Integer.valueOf(0), second.next());
+    assertEquals(Integer.valueOf(1), second.next());
+    assertEquals(Integer.valueOf(1), first.next());
+    assertEquals(1, iterations.get());
+    assertEquals(Integer.valueOf(2), naturals.next());
+  }
+
+  @Test
+  public void should_replay_elements_within_buffer_limit() {
+    Iterator<Integer> source = asList(1, 2).iterator();
+    Iterable<Integer> memoized = Iterables.memoize(() -> source, 2);
+    assertEquals(asList(1, 2), newArrayList(memoized));
+    assertEquals(asList(1, 2), newArrayList(memoized));
+  }
+
+  @Test
+  public void should_continue_reading_source_past_buffer_limit() {
+    Iterator<Integer> source = asList(1, 2, 3).iterator();
+    Iterable<Integer> memoized = Iterables.memoize(() -> source, 1);
+    assertEquals(asList(1, 2, 3), newArrayList(memoized));
+  }
+
+  @Test
+  public void should_throw_error_if_iterated_again_past_buffer_limit() {
+    Iterator<Integer> source = asList(1, 2, 3).iterator();
+    Iterable<Integer> memoized = Iterables.memoize(() -> source, 1);
+    Iterator<Integer> behind = memoized.iterator();
+    newArrayList(memoized);
+    assertEquals(Integer.valueOf(1), behind.next());
+    try {
+      behind.hasNext();
+      fail("expecting IllegalStateException");
+    } catch (IllegalStateException expected) {}
+    try {
+      memoized.iterator();
+      fail("expecting IllegalStateException");
+    } catch (IllegalStateException expected) {}
+  }
+
+  @Test
+  public void should_not_wrap_memoized_Iterable_again() {
+    Iterable<Integer> memoized = Iterables.memoize(asList(1, 2));
+    assertSame(memoized, Iterables.memoize(memoized));
+  }
+
+  @Test
+  public void should_return_empty_Iterable_if_source_is_empty() {
+    assertFalse(Iterables.memoize(asList()).iterator().hasNext());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_buffer_size_is_negative() {
+    Iterables.memoize(asList(1), -1);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_Iterable_is_null() {
+    Iterables.memoize(null);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Iterables#partition(Iterable, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_partition_Test {
+  @Test
+  public void should_return_consecutive_partitions() {
+    List<List<Integer>> partitions = newArrayList(Iterables.partition(asList(1, 2, 3, 4, 5), 2));
+    assertEquals(asList(asList(1, 2), asList(3, 4), asList(5)), partitions);
+  }
+
+  @Test
+  public void should_partition_lazily() {
+    Iterable<Integer> naturals = () -> Stream.iterate(0, i -> i + 1).iterator();
+    Iterator<List<Integer>> partitions = Iterables.partition(naturals, 3).iterator();
+    assertEquals(asList(0, 1, 2), partitions.next());
+    assertEquals(asList(3, 4, 5), partitions.next());
+  }
+
+  @Test
+  public void should_return_no_partitions_if_Iterable_is_empty() {
+    assertTrue(Iterables.isNullOrEmpty(Iterables.partition(asList(), 3)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_size_is_not_positive() {
+    Iterables.partition(asList(1), 0);
+  }
+}
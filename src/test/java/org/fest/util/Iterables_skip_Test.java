@@ -0,0 +1,49 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.LinkedHashSet;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link Iterables#skip(Iterable, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_skip_Test {
+  @Test
+  public void should_skip_first_elements_of_List() {
+    assertEquals(asList(3), newArrayList(Iterables.skip(asList(1, 2, 3), 2)));
+    assertFalse(Iterables.skip(asList(1, 2, 3), 8).iterator().hasNext());
+  }
+
+  @Test
+  public void should_skip_first_elements_of_Iterable() {
+    LinkedHashSet<Integer> elements = new LinkedHashSet<Integer>(asList(1, 2, 3));
+    assertEquals(asList(2, 3), newArrayList(Iterables.skip(elements, 1)));
+    assertFalse(Iterables.skip(elements, 8).iterator().hasNext());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_count_is_negative() {
+    Iterables.skip(asList(1), -1);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Iterables#transform(Iterable, java.util.function.Function)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Iterables_transform_Test {
+  @Test
+  public void should_apply_function_to_each_element() {
+    Iterable<Integer> lengths = Iterables.transform(asList("Frodo", "Sam"), String::length);
+    assertEquals(asList(5, 3), newArrayList(lengths));
+  }
+
+  @Test
+  public void should_apply_function_only_to_elements_read() {
+    List<String> applied = new ArrayList<String>();
+    Iterable<Integer> lengths = Iterables.transform(asList("Frodo", "Sam", "Gandalf"), s -> {
+      applied.add(s);
+      return s.length();
+    });
+    Iterator<Integer> iterator = lengths.iterator();
+    iterator.next();
+    assertEquals(asList("Frodo"), applied);
+  }
+
+  @Test
+  public void should_remove_elements_from_underlying_Iterable() {
+    List<String> elements = newArrayList("Frodo", "Sam");
+    Iterator<Integer> iterator = Iterables.transform(elements, String::length).iterator();
+    iterator.next();
+    iterator.remove();
+    assertEquals(asList("Sam"), elements);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Lists#newArrayListWithCapacity(int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Lists_newArrayListWithCapacity_Test {
+  @Test
+  public void should_return_empty_List() {
+    ArrayList<String> list = Lists.newArrayListWithCapacity(10);
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  public void should_return_empty_List_if_capacity_is_zero() {
+    assertTrue(Lists.newArrayListWithCapacity(0).isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_capacity_is_negative() {
+    Lists.newArrayListWithCapacity(-1);
+  }
+}
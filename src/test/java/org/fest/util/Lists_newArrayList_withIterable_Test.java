@@ -40,6 +40,22 @@ public class Lists_newArrayList_withIterable_Test {
     assertArrayEquals(expected, list.toArray());
   }
 
+  @Test
+  public void should_return_List_containing_all_elements_in_iterable_that_is_not_Collection() {
+    final String[] expected = {"One", "Two"};
+    Iterable<String> elements = () -> asList(expected).iterator();
+    ArrayList<String> list = Lists.newArrayList(elements);
+    assertArrayEquals(expected, list.toArray());
+  }
+
+  @Test
+  public void should_return_List_independent_from_Collection() {
+    ArrayList<String> elements = new ArrayList<String>(asList("One", "Two"));
+    ArrayList<String> list = Lists.newArrayList((Iterable<String>) elements);
+    elements.add("Three");
+    assertEquals(2, list.size());
+  }
+
   @Test
   public void should_throw_error_if_iterable_is_null() {
     thrown.expect(NullPointerException.class);
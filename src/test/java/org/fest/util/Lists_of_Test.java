@@ -0,0 +1,79 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Lists#of(Object[])}.
+ *
+ * @author Alex Ruiz
+ */
+public class Lists_of_Test {
+  @Test
+  public void should_return_List_with_given_elements_in_order() {
+    List<String> list = Lists.of("Frodo", null, "Sam", "Frodo");
+    assertEquals(asList("Frodo", null, "Sam", "Frodo"), list);
+    assertEquals(new ArrayList<String>(asList("Frodo", null, "Sam", "Frodo")).hashCode(), list.hashCode());
+    assertEquals(1, list.indexOf(null));
+    assertEquals(3, list.lastIndexOf("Frodo"));
+    assertTrue(list.contains("Sam"));
+    assertFalse(list.contains("Gandalf"));
+  }
+
+  @Test
+  public void should_not_be_affected_by_changes_to_given_array() {
+    String[] elements = {"Frodo", "Sam"};
+    List<String> list = Lists.of(elements);
+    elements[0] = "Gandalf";
+    assertArrayEquals(new Object[]{"Frodo", "Sam"}, list.toArray());
+  }
+
+  @Test
+  public void should_return_Object_array() {
+    Object[] array = Lists.of("Frodo", "Sam").toArray();
+    assertEquals(Object[].class, array.getClass());
+    array[0] = 6;
+  }
+
+  @Test
+  public void should_return_empty_List_if_array_is_empty() {
+    assertTrue(Lists.<String>of().isEmpty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_not_allow_adding_elements() {
+    Lists.of("Frodo").add("Sam");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_not_allow_replacing_elements() {
+    Lists.of("Frodo").set(0, "Sam");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_array_is_null() {
+    Lists.of((String[]) null);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Maps#newCache(int)} and {@link Maps#newCache(CacheSpec)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Maps_newCache_Test {
+  @Test
+  public void should_create_empty_Cache() {
+    Cache<String, Integer> cache = Maps.newCache(100);
+    assertTrue(cache.isEmpty());
+    assertEquals(100, cache.maximumSize());
+    assertEquals(1.0, cache.hitRate(), 0.0);
+  }
+
+  @Test
+  public void should_create_Cache_with_given_settings() {
+    CacheSpec spec = CacheSpec.maximumSize(8).expiringAfterAccess(1, TimeUnit.SECONDS);
+    Cache<String, Integer> cache = Maps.newCache(spec);
+    assertEquals(8, cache.maximumSize());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_maximum_size_is_not_positive() {
+    Maps.newCache(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_duration_is_not_positive() {
+    CacheSpec.maximumSize(8).expiringAfterWrite(0, TimeUnit.SECONDS);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_spec_is_null() {
+    Maps.newCache(null);
+  }
+}
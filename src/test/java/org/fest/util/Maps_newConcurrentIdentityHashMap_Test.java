@@ -0,0 +1,81 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Maps#newConcurrentIdentityHashMap()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Maps_newConcurrentIdentityHashMap_Test {
+  @Test
+  public void should_compare_keys_by_identity() {
+    ConcurrentMap<String, Integer> map = Maps.newConcurrentIdentityHashMap();
+    String key = new String("Leia");
+    String equalKey = new String("Leia");
+    map.put(key, 1);
+    map.put(equalKey, 2);
+    assertEquals(2, map.size());
+    assertEquals(Integer.valueOf(1), map.get(key));
+    assertEquals(Integer.valueOf(2), map.get(equalKey));
+    assertNull(map.get("Luke"));
+  }
+
+  @Test
+  public void should_support_ConcurrentMap_operations() {
+    ConcurrentMap<String, Integer> map = Maps.newConcurrentIdentityHashMap();
+    String key = new String("Leia");
+    assertNull(map.putIfAbsent(key, 1));
+    assertEquals(Integer.valueOf(1), map.putIfAbsent(key, 2));
+    assertNull(map.putIfAbsent(new String("Leia"), 3));
+    assertEquals(Integer.valueOf(1), map.replace(key, 4));
+    assertTrue(map.replace(key, 4, 5));
+    assertFalse(map.remove(key, 4));
+    assertTrue(map.remove(key, 5));
+    assertFalse(map.containsKey(key));
+    assertEquals(Integer.valueOf(4), map.computeIfAbsent(key, String::length));
+    assertEquals(Integer.valueOf(4), map.remove(key));
+    map.clear();
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void should_iterate_over_entries() {
+    ConcurrentMap<String, Integer> map = Maps.newConcurrentIdentityHashMap();
+    String key = new String("Leia");
+    map.put(key, 1);
+    Map.Entry<String, Integer> entry = map.entrySet().iterator().next();
+    assertTrue(entry.getKey() == key);
+    entry.setValue(2);
+    assertEquals(Integer.valueOf(2), map.get(key));
+    map.keySet().remove(key);
+    assertTrue(map.isEmpty());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_not_allow_null_keys() {
+    Maps.<String, Integer>newConcurrentIdentityHashMap().put(null, 1);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Maps#newConcurrentWeakIdentityHashMap()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Maps_newConcurrentWeakIdentityHashMap_Test {
+  @Test
+  public void should_compare_keys_by_identity() {
+    ConcurrentMap<String, Integer> map = Maps.newConcurrentWeakIdentityHashMap();
+    String key = new String("Leia");
+    map.put(key, 1);
+    assertEquals(Integer.valueOf(1), map.get(key));
+    assertNull(map.get(new String("Leia")));
+    assertEquals(Integer.valueOf(1), map.remove(key));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void should_remove_entries_whose_keys_were_garbage_collected() throws InterruptedException {
+    ConcurrentMap<Object, Integer> map = Maps.newConcurrentWeakIdentityHashMap();
+    Object strongKey = new Object();
+    map.put(strongKey, 1);
+    for (int i = 0; i < 100; i++) {
+      map.put(new Object(), i);
+    }
+    for (int i = 0; i < 50 && map.size() > 1; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertEquals(1, map.size());
+    assertEquals(Integer.valueOf(1), map.get(strongKey));
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Maps#newDeepHashMap()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Maps_newDeepHashMap_Test {
+  @Test
+  public void should_consider_arrays_with_equal_elements_to_be_the_same_key() {
+    Map<Object, String> map = Maps.newDeepHashMap();
+    assertNull(map.put(new String[]{"Luke"}, "Jedi"));
+    assertEquals("Jedi", map.put(new String[]{"Luke"}, "Master"));
+    assertEquals("Master", map.get(new String[]{"Luke"}));
+    assertTrue(map.containsKey(new String[]{"Luke"}));
+    assertEquals(1, map.size());
+    assertEquals("Master", map.remove(new String[]{"Luke"}));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void should_be_equal_to_HashMap_with_same_entries() {
+    Map<String, Integer> map = Maps.newDeepHashMap();
+    map.put("Luke", 23);
+    map.put(null, null);
+    Map<String, Integer> expected = new HashMap<String, Integer>();
+    expected.put("Luke", 23);
+    expected.put(null, null);
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Maps#newHashMapWithExpectedSize(int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Maps_newHashMapWithExpectedSize_Test {
+  @Test
+  public void should_return_empty_HashMap() {
+    Map<String, Integer> map = Maps.newHashMapWithExpectedSize(10);
+    assertTrue(map instanceof HashMap<?, ?>);
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void should_compute_capacity_that_holds_expected_size_without_rehashing() {
+    assertEquals(1, Maps.capacityFor(0));
+    assertEquals(3, Maps.capacityFor(2));
+    assertEquals(13, Maps.capacityFor(9));
+    assertEquals(17, Maps.capacityFor(12));
+    for (int expectedSize = 3; expectedSize < 10000; expectedSize++) {
+      assertTrue(Maps.capacityFor(expectedSize) * 0.75f >= expectedSize);
+    }
+    assertEquals(Integer.MAX_VALUE, Maps.capacityFor(Integer.MAX_VALUE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_expected_size_is_negative() {
+    Maps.newHashMapWithExpectedSize(-1);
+  }
+}
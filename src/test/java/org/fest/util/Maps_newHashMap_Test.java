@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link Maps#newHashMap(HashingStrategy)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Maps_newHashMap_Test {
+  @Test
+  public void should_create_Map_using_given_strategy_for_keys() {
+    Map<String, Integer> map = Maps.newHashMap(HashingStrategies.caseInsensitive());
+    map.put("Yoda", 900);
+    map.put("YODA", 800);
+    assertEquals(1, map.size());
+    assertEquals(Integer.valueOf(800), map.get("yoda"));
+    assertEquals(Integer.valueOf(800), map.remove("yOdA"));
+    assertNull(map.get("Yoda"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_strategy_is_null() {
+    Maps.newHashMap((HashingStrategy<Object>) null);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Mismatch#hashCode()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Mismatch_hashCode_Test {
+  @Test
+  public void should_return_same_hash_code_for_equal_Mismatches() {
+    Mismatch m1 = new Mismatch("[0]", "Luke", 6);
+    Mismatch m2 = new Mismatch("[0]", "Luke", 6);
+    assertEquals(m1, m2);
+    assertEquals(m1.hashCode(), m2.hashCode());
+  }
+
+  @Test
+  public void should_return_same_hash_code_for_equal_Mismatches_with_array_values() {
+    Mismatch m1 = new Mismatch(".values", new int[]{6, 8}, new Object[]{"Luke", new String[]{"Yoda"}});
+    Mismatch m2 = new Mismatch(".values", new int[]{6, 8}, new Object[]{"Luke", new String[]{"Yoda"}});
+    assertEquals(m1, m2);
+    assertEquals(m1.hashCode(), m2.hashCode());
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static org.fest.util.Sets.newLinkedHashSet;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Objects#areEqualFieldByField(Object, Object)} and
+ * {@link Objects#areEqualFieldByField(Object, Object, Set, Set)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Objects_areEqualFieldByField_Test {
+  private static final Set<String> NO_FIELDS = emptySet();
+
+  @Test
+  public void should_return_true_if_both_objects_are_null() {
+    assertTrue(Objects.areEqualFieldByField(null, null));
+  }
+
+  @Test
+  public void should_return_false_if_one_object_is_null() {
+    assertFalse(Objects.areEqualFieldByField(new Jedi("Luke", 23), null));
+    assertFalse(Objects.areEqualFieldByField(null, new Jedi("Luke", 23)));
+  }
+
+  @Test
+  public void should_return_true_if_all_fields_are_equal() {
+    Jedi luke1 = new Jedi("Luke", 23);
+    luke1.height = 1.72;
+    luke1.lightSaberColors = new String[]{"blue", "green"};
+    Jedi luke2 = new Jedi("Luke", 23);
+    luke2.height = 1.72;
+    luke2.lightSaberColors = new String[]{"blue", "green"};
+    assertTrue(Objects.areEqualFieldByField(luke1, luke2));
+  }
+
+  @Test
+  public void should_return_false_if_any_field_is_not_equal() {
+    assertFalse(Objects.areEqualFieldByField(new Jedi("Luke", 23), new Jedi("Luke", 24)));
+    assertFalse(Objects.areEqualFieldByField(new Jedi("Luke", 23), new Jedi("Leia", 23)));
+  }
+
+  @Test
+  public void should_compare_primitive_fields_like_wrapper_equals() {
+    Jedi luke1 = new Jedi("Luke", 23);
+    luke1.height = Double.NaN;
+    Jedi luke2 = new Jedi("Luke", 23);
+    luke2.height = Double.NaN;
+    assertTrue(Objects.areEqualFieldByField(luke1, luke2));
+    luke1.height = 0.0;
+    luke2.height = -0.0;
+    assertFalse(Objects.areEqualFieldByField(luke1, luke2));
+  }
+
+  @Test
+  public void should_compare_fields_declared_in_superclass() {
+    assertFalse(Objects.areEqualFieldByField(new Padawan("Luke", 23, "Yoda"), new Padawan("Luke", 19, "Yoda")));
+    assertFalse(Objects.areEqualFieldByField(new Padawan("Luke", 23, "Yoda"), new Padawan("Luke", 23, "Obi-Wan")));
+    assertTrue(Objects.areEqualFieldByField(new Padawan("Luke", 23, "Yoda"), new Padawan("Luke", 23, "Yoda")));
+  }
+
+  @Test
+  public void should_return_false_if_objects_are_of_different_classes() {
+    assertFalse(Objects.areEqualFieldByField(new Jedi("Luke", 23), new Padawan("Luke", 23, null)));
+  }
+
+  @Test
+  public void should_compare_nested_objects_field_by_field() {
+    Padawan luke1 = new Padawan("Luke", 23, "Yoda");
+    luke1.master = new Jedi("Yoda", 900);
+    Padawan luke2 = new Padawan("Luke", 23, "Yoda");
+    luke2.master = new Jedi("Yoda", 900);
+    assertTrue(Objects.areEqualFieldByField(luke1, luke2));
+    luke2.master = new Jedi("Yoda", 800);
+    assertFalse(Objects.areEqualFieldByField(luke1, luke2));
+  }
+
+  @Test
+  public void should_consider_objects_referring_to_themselves_equal() {
+    Padawan luke1 = new Padawan("Luke", 23, "Yoda");
+    luke1.master = luke1;
+    Padawan luke2 = new Padawan("Luke", 23, "Yoda");
+    luke2.master = luke2;
+    assertTrue(Objects.areEqualFieldByField(luke1, luke2));
+  }
+
+  @Test
+  public void should_return_false_if_only_one_object_refers_to_itself() {
+    Padawan luke1 = new Padawan("Luke", 23, "Yoda");
+    luke1.master = luke1;
+    Padawan luke2 = new Padawan("Luke", 23, "Yoda");
+    luke2.master = new Padawan("Luke", 23, "Yoda");
+    ((Padawan) luke2.master).master = new Jedi("Yoda", 900);
+    assertFalse(Objects.areEqualFieldByField(luke1, luke2));
+    assertFalse(Objects.areEqualFieldByField(luke2, luke1));
+  }
+
+  @Test
+  public void should_use_areEqual_for_JDK_types() {
+    assertTrue(Objects.areEqualFieldByField("Yoda", "Yoda"));
+    assertFalse(Objects.areEqualFieldByField("Yoda", "Luke"));
+    assertTrue(Objects.areEqualFieldByField(new int[]{6, 8}, new int[]{6, 8}));
+  }
+
+  @Test
+  public void should_compare_only_included_fields() {
+    Jedi luke = new Jedi("Luke", 23);
+    Jedi olderLuke = new Jedi("Luke", 40);
+    assertTrue(Objects.areEqualFieldByField(luke, olderLuke, newLinkedHashSet("name"), NO_FIELDS));
+    assertFalse(Objects.areEqualFieldByField(luke, olderLuke, newLinkedHashSet("name", "age"), NO_FIELDS));
+  }
+
+  @Test
+  public void should_not_compare_excluded_fields() {
+    Jedi luke = new Jedi("Luke", 23);
+    Jedi olderLuke = new Jedi("Luke", 40);
+    assertTrue(Objects.areEqualFieldByField(luke, olderLuke, NO_FIELDS, newLinkedHashSet("age")));
+    assertTrue(Objects.areEqualFieldByField(luke, olderLuke, newLinkedHashSet("name", "age"), newLinkedHashSet("age")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_included_field_does_not_exist() {
+    Objects.areEqualFieldByField(new Jedi("Luke", 23), new Jedi("Luke", 23), newLinkedHashSet("rank"), NO_FIELDS);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_included_fields_is_null() {
+    Objects.areEqualFieldByField(new Jedi("Luke", 23), new Jedi("Luke", 23), null, NO_FIELDS);
+  }
+
+  private static class Jedi {
+    final String name;
+    final int age;
+    double height;
+    String[] lightSaberColors;
+
+    Jedi(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+  }
+
+  private static class Padawan extends Jedi {
+    final String masterName;
+    Jedi master;
+
+    Padawan(String name, int age, String masterName) {
+      super(name, age);
+      this.masterName = masterName;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Objects#areEqualInParallel(Object, Object)} and
+ * {@link Objects#areEqualInParallel(Object, Object, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Objects_areEqualInParallel_Test {
+  private static final int SIZE = 10000;
+  private static final int THRESHOLD = 16;
+
+  @Test
+  public void should_return_true_if_both_Objects_are_null() {
+    assertTrue(Objects.areEqualInParallel(null, null));
+  }
+
+  @Test
+  public void should_return_false_if_one_Object_is_null() {
+    assertFalse(Objects.areEqualInParallel(null, "Yoda"));
+    assertFalse(Objects.areEqualInParallel("Yoda", null));
+  }
+
+  @Test
+  public void should_compare_Objects_that_are_not_arrays_or_Lists() {
+    assertTrue(Objects.areEqualInParallel("Yoda", "Yoda"));
+    assertFalse(Objects.areEqualInParallel("Yoda", "Luke"));
+  }
+
+  @Test
+  public void should_compare_large_arrays_of_primitives() {
+    double[] a1 = new double[SIZE];
+    double[] a2 = new double[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      a1[i] = a2[i] = i / 3d;
+    }
+    assertTrue(Objects.areEqualInParallel(a1, a2, THRESHOLD));
+    a2[SIZE - 1] = Double.NaN;
+    assertFalse(Objects.areEqualInParallel(a1, a2, THRESHOLD));
+    a1[SIZE - 1] = Double.NaN;
+    assertTrue(Objects.areEqualInParallel(a1, a2, THRESHOLD));
+  }
+
+  @Test
+  public void should_compare_large_arrays_of_each_primitive_type() {
+    assertTrue(Objects.areEqualInParallel(new int[SIZE], new int[SIZE], THRESHOLD));
+    assertTrue(Objects.areEqualInParallel(new long[SIZE], new long[SIZE], THRESHOLD));
+    assertTrue(Objects.areEqualInParallel(new float[SIZE], new float[SIZE], THRESHOLD));
+    assertTrue(Objects.areEqualInParallel(new byte[SIZE], new byte[SIZE], THRESHOLD));
+    assertTrue(Objects.areEqualInParallel(new short[SIZE], new short[SIZE], THRESHOLD));
+    assertTrue(Objects.areEqualInParallel(new char[SIZE], new char[SIZE], THRESHOLD));
+    assertTrue(Objects.areEqualInParallel(new boolean[SIZE], new boolean[SIZE], THRESHOLD));
+    assertFalse(Objects.areEqualInParallel(new int[SIZE], new int[SIZE + 1], THRESHOLD));
+    assertFalse(Objects.areEqualInParallel(new int[SIZE], new long[SIZE], THRESHOLD));
+  }
+
+  @Test
+  public void should_compare_large_arrays_of_arrays_deeply() {
+    Object[] a1 = new Object[SIZE];
+    Object[] a2 = new Object[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      a1[i] = new int[]{i};
+      a2[i] = new int[]{i};
+    }
+    assertTrue(Objects.areEqualInParallel(a1, a2, THRESHOLD));
+    a2[SIZE / 2] = new int[]{-1};
+    assertFalse(Objects.areEqualInParallel(a1, a2, THRESHOLD));
+  }
+
+  @Test
+  public void should_compare_large_random_access_Lists() {
+    List<String> l1 = new ArrayList<String>();
+    List<String> l2 = new ArrayList<String>();
+    for (int i = 0; i < SIZE; i++) {
+      l1.add("e" + i);
+      l2.add("e" + i);
+    }
+    assertTrue(Objects.areEqualInParallel(l1, l2, THRESHOLD));
+    assertTrue(Objects.areEqualInParallel(l1, new LinkedList<String>(l2), THRESHOLD));
+    l2.set(0, null);
+    assertFalse(Objects.areEqualInParallel(l1, l2, THRESHOLD));
+    assertFalse(Objects.areEqualInParallel(l2, l1, THRESHOLD));
+  }
+
+  @Test
+  public void should_compare_small_arrays_with_threshold_of_one() {
+    assertTrue(Objects.areEqualInParallel(new int[]{1, 2, 3}, new int[]{1, 2, 3}, 1));
+    assertFalse(Objects.areEqualInParallel(new int[]{1, 2, 3}, new int[]{1, 2, 4}, 1));
+    assertTrue(Objects.areEqualInParallel(new Object[]{"a"}, new Object[]{"a"}, 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_threshold_is_not_positive() {
+    Objects.areEqualInParallel("Yoda", "Yoda", 0);
+  }
+}
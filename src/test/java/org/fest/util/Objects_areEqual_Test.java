@@ -66,6 +66,34 @@ public class Objects_areEqual_Test {
     assertTrue(Objects.areEqual(a1, a2));
   }
 
+  @Test
+  public void should_compare_arrays_of_each_primitive_type() {
+    assertTrue(Objects.areEqual(new long[]{6L, 8L}, new long[]{6L, 8L}));
+    assertFalse(Objects.areEqual(new long[]{6L, 8L}, new long[]{6L, 9L}));
+    assertTrue(Objects.areEqual(new double[]{Double.NaN, 1d}, new double[]{Double.NaN, 1d}));
+    assertFalse(Objects.areEqual(new double[]{0d}, new double[]{-0d}));
+    assertTrue(Objects.areEqual(new float[]{6f}, new float[]{6f}));
+    assertTrue(Objects.areEqual(new byte[]{6}, new byte[]{6}));
+    assertTrue(Objects.areEqual(new short[]{6}, new short[]{6}));
+    assertTrue(Objects.areEqual(new char[]{'a'}, new char[]{'a'}));
+    assertFalse(Objects.areEqual(new boolean[]{true}, new boolean[]{false}));
+    assertFalse(Objects.areEqual(new int[]{6, 8}, new int[]{6}));
+  }
+
+  @Test
+  public void should_return_true_if_arrays_of_arrays_are_equal() {
+    Object[] a1 = {new int[]{6, 8}, new String[]{"Luke"}, null};
+    Object[] a2 = {new int[]{6, 8}, new String[]{"Luke"}, null};
+    assertTrue(Objects.areEqual(a1, a2));
+  }
+
+  @Test
+  public void should_compare_arrays_of_primitives_and_wrappers_element_by_element() {
+    assertTrue(Objects.areEqual(new int[]{6, 8}, new Integer[]{6, 8}));
+    assertFalse(Objects.areEqual(new int[]{6, 8}, new Integer[]{6, 9}));
+    assertFalse(Objects.areEqual(new int[]{6, 8}, new long[]{6L, 8L}));
+  }
+
   @Test
   public void should_return_false_if_arrays_of_Objects_are_not_equal() {
     Object[] a1 = {"Luke", "Yoda", "Leia"};
@@ -86,4 +114,54 @@ public class Objects_areEqual_Test {
     assertFalse(Objects.areEqual(a1, ""));
     assertFalse(Objects.areEqual("", a1));
   }
+
+  @Test
+  public void should_compare_deeply_nested_arrays() {
+    assertTrue(Objects.areEqual(nestedArrays(100000, "Luke"), nestedArrays(100000, "Luke")));
+    assertFalse(Objects.areEqual(nestedArrays(100000, "Luke"), nestedArrays(100000, "Yoda")));
+  }
+
+  @Test
+  public void should_return_true_if_arrays_containing_themselves_have_same_elements() {
+    Object[] a1 = {"Luke", null};
+    a1[1] = a1;
+    Object[] a2 = {"Luke", null};
+    a2[1] = a2;
+    assertTrue(Objects.areEqual(a1, a2));
+  }
+
+  @Test
+  public void should_return_false_if_only_one_array_contains_itself() {
+    Object[] a1 = {null};
+    a1[0] = a1;
+    Object[] a2 = {new Object[]{"x"}};
+    assertFalse(Objects.areEqual(a1, a2));
+    assertFalse(Objects.areEqual(a2, a1));
+  }
+
+  @Test
+  public void should_compare_deeply_nested_cycles_symmetrically() {
+    assertTrue(Objects.areEqual(nestedCycle(20), nestedCycle(20)));
+    assertFalse(Objects.areEqual(nestedCycle(20), nestedArrays(40, "x")));
+    assertFalse(Objects.areEqual(nestedArrays(40, "x"), nestedCycle(20)));
+  }
+
+  // nested arrays whose innermost array contains the outermost one.
+  private static Object[] nestedCycle(int depth) {
+    Object[] innermost = {null};
+    Object[] array = innermost;
+    for (int i = 1; i < depth; i++) {
+      array = new Object[]{array};
+    }
+    innermost[0] = array;
+    return array;
+  }
+
+  private static Object[] nestedArrays(int depth, Object innermost) {
+    Object[] array = {innermost};
+    for (int i = 1; i < depth; i++) {
+      array = new Object[]{array};
+    }
+    return array;
+  }
 }
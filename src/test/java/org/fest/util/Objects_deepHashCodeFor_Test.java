@@ -0,0 +1,102 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Objects#deepHashCodeFor(Object)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Objects_deepHashCodeFor_Test {
+  @Test
+  public void should_return_zero_if_Object_is_null() {
+    assertEquals(0, Objects.deepHashCodeFor(null));
+  }
+
+  @Test
+  public void should_return_hashCode_of_Object_that_is_not_an_array() {
+    assertEquals("Yoda".hashCode(), Objects.deepHashCodeFor("Yoda"));
+  }
+
+  @Test
+  public void should_return_same_hash_code_for_equal_arrays_of_primitives() {
+    double[] a1 = {6d, Double.NaN};
+    double[] a2 = {6d, Double.NaN};
+    assertEquals(Objects.deepHashCodeFor(a1), Objects.deepHashCodeFor(a2));
+    assertEquals(Objects.deepHashCodeFor(new char[]{'a'}), Objects.deepHashCodeFor(new char[]{'a'}));
+  }
+
+  @Test
+  public void should_return_same_hash_code_for_equal_nested_arrays() {
+    Object[] a1 = {"Luke", new int[]{6, 8}, new Object[]{new long[]{10L}}, null};
+    Object[] a2 = {"Luke", new int[]{6, 8}, new Object[]{new long[]{10L}}, null};
+    assertEquals(Objects.deepHashCodeFor(a1), Objects.deepHashCodeFor(a2));
+    assertEquals(java.util.Arrays.deepHashCode(a1), Objects.deepHashCodeFor(a1));
+  }
+
+  @Test
+  public void should_return_same_hash_code_for_arrays_of_primitives_and_wrappers() {
+    assertEquals(Objects.deepHashCodeFor(new int[]{6, 8}), Objects.deepHashCodeFor(new Integer[]{6, 8}));
+    assertEquals(Objects.deepHashCodeFor(new long[]{6L, 8L}), Objects.deepHashCodeFor(new Long[]{6L, 8L}));
+    assertEquals(Objects.deepHashCodeFor(new boolean[]{true}), Objects.deepHashCodeFor(new Boolean[]{true}));
+  }
+
+  @Test
+  public void should_return_same_hash_code_for_equal_deeply_nested_arrays() {
+    Object[] a1 = nestedArrays(100000, "Luke");
+    Object[] a2 = nestedArrays(100000, "Luke");
+    assertEquals(Objects.deepHashCodeFor(a1), Objects.deepHashCodeFor(a2));
+    assertEquals(java.util.Arrays.deepHashCode(nestedArrays(100, "Luke")),
+        Objects.deepHashCodeFor(nestedArrays(100, "Luke")));
+  }
+
+  @Test
+  public void should_return_hash_code_of_array_that_contains_itself() {
+    Object[] a1 = {"Luke", null};
+    a1[1] = a1;
+    Object[] a2 = {"Luke", null};
+    a2[1] = a2;
+    assertEquals(Objects.deepHashCodeFor(a1), Objects.deepHashCodeFor(a2));
+  }
+
+  @Test
+  public void should_return_same_hash_code_for_equal_cycles_starting_at_different_depths() {
+    Object[] c = {null};
+    c[0] = new Object[]{c};
+    Object[] x = {null};
+    x[0] = x;
+    assertTrue(Objects.areEqual(c, x));
+    assertEquals(Objects.deepHashCodeFor(c), Objects.deepHashCodeFor(x));
+    Object[] l1 = {"Luke", null};
+    l1[1] = new Object[]{"Luke", l1};
+    Object[] l2 = {"Luke", null};
+    l2[1] = l2;
+    assertTrue(Objects.areEqual(l1, l2));
+    assertEquals(Objects.deepHashCodeFor(l1), Objects.deepHashCodeFor(l2));
+  }
+
+  private static Object[] nestedArrays(int depth, Object innermost) {
+    Object[] array = {innermost};
+    for (int i = 1; i < depth; i++) {
+      array = new Object[]{array};
+    }
+    return array;
+  }
+}
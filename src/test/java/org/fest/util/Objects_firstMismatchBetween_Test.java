@@ -0,0 +1,139 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Objects.firstMismatchBetween;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link Objects#firstMismatchBetween(Object, Object)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Objects_firstMismatchBetween_Test {
+  @Test
+  public void should_return_null_if_Objects_are_equal() {
+    assertNull(firstMismatchBetween(null, null));
+    assertNull(firstMismatchBetween("Yoda", "Yoda"));
+    assertNull(firstMismatchBetween(new int[][]{{6, 8}}, new int[][]{{6, 8}}));
+  }
+
+  @Test
+  public void should_return_empty_path_if_Objects_are_different_values() {
+    assertEquals(new Mismatch("", "Yoda", "Luke"), firstMismatchBetween("Yoda", "Luke"));
+    assertEquals(new Mismatch("", null, "Luke"), firstMismatchBetween(null, "Luke"));
+  }
+
+  @Test
+  public void should_return_path_to_first_different_element_of_nested_arrays() {
+    Object[] a1 = {"Luke", new Object[]{new long[]{6L, 8L}}};
+    Object[] a2 = {"Luke", new Object[]{new long[]{6L, 9L}}};
+    assertEquals(new Mismatch("[1][0][1]", 8L, 9L), firstMismatchBetween(a1, a2));
+  }
+
+  @Test
+  public void should_return_length_of_arrays_having_different_length() {
+    assertEquals(new Mismatch("[0].length", 2, 3), firstMismatchBetween(new int[][]{{6, 8}}, new int[][]{{6, 8, 10}}));
+  }
+
+  @Test
+  public void should_compare_arrays_of_primitives_and_wrappers_element_by_element() {
+    assertNull(firstMismatchBetween(new int[]{6, 8}, new Integer[]{6, 8}));
+    assertEquals(new Mismatch("[1]", 8, 9), firstMismatchBetween(new int[]{6, 8}, new Integer[]{6, 9}));
+  }
+
+  @Test
+  public void should_return_path_to_first_different_element_of_Lists() {
+    List<String> l1 = newArrayList("Luke", "Yoda");
+    List<String> l2 = newArrayList("Luke", "Leia");
+    assertEquals(new Mismatch("[1]", "Yoda", "Leia"), firstMismatchBetween(l1, l2));
+    l2.set(1, "Yoda");
+    l2.add("Leia");
+    assertEquals(new Mismatch(".size", 2, 3), firstMismatchBetween(l1, l2));
+  }
+
+  @Test
+  public void should_return_path_to_first_different_value_of_Maps() {
+    Map<String, Object> m1 = new LinkedHashMap<String, Object>();
+    m1.put("name", "Luke");
+    m1.put("zip", 123);
+    Map<String, Object> m2 = new LinkedHashMap<String, Object>(m1);
+    m2.put("zip", 456);
+    assertEquals(new Mismatch("['zip']", 123, 456), firstMismatchBetween(m1, m2));
+    m2.remove("zip");
+    assertEquals(new Mismatch("['zip']", 123, null), firstMismatchBetween(m1, m2));
+  }
+
+  @Test
+  public void should_return_path_to_first_different_field() {
+    Person p1 = new Person("Luke", new Address("123"));
+    Person p2 = new Person("Luke", new Address("456"));
+    Mismatch mismatch = firstMismatchBetween(p1, p2);
+    assertEquals(new Mismatch(".address.zip", "123", "456"), mismatch);
+    assertEquals(".address.zip: '123' != '456'", mismatch.toString());
+  }
+
+  @Test
+  public void should_return_Objects_if_they_are_not_equal_but_their_fields_are() {
+    Person p1 = new Person("Luke", null);
+    Person p2 = new Person("Luke", null);
+    assertEquals(new Mismatch("", p1, p2), firstMismatchBetween(p1, p2));
+  }
+
+  @Test
+  public void should_not_follow_cycles() {
+    Person p1 = new Person("Luke", null);
+    Person p2 = new Person("Luke", null);
+    p1.friend = p1;
+    p2.friend = p2;
+    assertEquals(new Mismatch("", p1, p2), firstMismatchBetween(p1, p2));
+  }
+
+  @Test
+  public void should_find_mismatch_in_array_that_contains_itself_in_both_orders() {
+    Object[] x = {null};
+    x[0] = x;
+    Object[] y = {new Object[]{1}};
+    assertEquals(new Mismatch("[0][0]", x, 1), firstMismatchBetween(x, y));
+    assertEquals(new Mismatch("[0][0]", 1, x), firstMismatchBetween(y, x));
+  }
+
+  private static class Person {
+    final String name;
+    final Address address;
+    Person friend;
+
+    Person(String name, Address address) {
+      this.name = name;
+      this.address = address;
+    }
+  }
+
+  private static class Address {
+    final String zip;
+
+    Address(String zip) {
+      this.zip = zip;
+    }
+  }
+}
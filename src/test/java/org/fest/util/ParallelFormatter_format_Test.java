@@ -0,0 +1,73 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ParallelFormatter#format(int, ParallelFormatter.ElementsFormatter)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ParallelFormatter_format_Test {
+  private final ParallelFormatter formatter = new ParallelFormatter(new ForkJoinPool(4), 3);
+
+  @Test
+  public void should_format_sequence_smaller_than_chunk() {
+    assertEquals("[0, 1]", formatter.format(2, new Indexes()));
+  }
+
+  @Test
+  public void should_join_chunks_in_order() {
+    assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", formatter.format(10, new Indexes()));
+  }
+
+  @Test
+  public void should_format_sequence_that_is_a_multiple_of_chunk_size() {
+    assertEquals("[0, 1, 2, 3, 4, 5]", formatter.format(6, new Indexes()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_chunk_size_is_not_positive() {
+    new ParallelFormatter(new ForkJoinPool(1), 0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_propagate_error_thrown_while_formatting_chunk() {
+    formatter.format(10, new ParallelFormatter.ElementsFormatter() {
+      @Override
+      public void appendElements(int from, int to, @NotNull StringBuilder buffer) {
+        throw new IllegalStateException();
+      }
+    });
+  }
+
+  private static class Indexes implements ParallelFormatter.ElementsFormatter {
+    @Override
+    public void appendElements(int from, int to, @NotNull StringBuilder buffer) {
+      for (int i = from; i < to; i++) {
+        if (i != from) {
+          buffer.append(", ");
+        }
+        buffer.append(i);
+      }
+    }
+  }
+}
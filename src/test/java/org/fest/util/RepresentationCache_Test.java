@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.annotation.ElementType;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RepresentationCache}.
+ *
+ * @author Alex Ruiz
+ */
+public class RepresentationCache_Test {
+  private RepresentationCache cache;
+
+  @Before
+  public void setUp() {
+    cache = RepresentationCache.withCapacity(100);
+  }
+
+  @Test
+  public void should_round_capacity_up_to_power_of_two() {
+    assertEquals(128, cache.capacity());
+    assertEquals(1, RepresentationCache.withCapacity(1).capacity());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_capacity_is_not_positive() {
+    RepresentationCache.withCapacity(0);
+  }
+
+  @Test
+  public void should_return_stored_representation() {
+    cache.put(String.class, "java.lang.String");
+    assertEquals("java.lang.String", cache.get(String.class));
+  }
+
+  @Test
+  public void should_look_up_values_by_identity() {
+    String key = "Leia";
+    cache.put(key, "'Leia'");
+    assertNull(cache.get(new String(key)));
+  }
+
+  @Test
+  public void should_clear_representations() {
+    cache.put(String.class, "java.lang.String");
+    cache.clear();
+    assertNull(cache.get(String.class));
+  }
+
+  @Test
+  public void should_report_hit_rate() {
+    assertEquals(1.0, cache.hitRate(), 0d);
+    cache.get(TimeUnit.DAYS);
+    cache.put(TimeUnit.DAYS, "DAYS");
+    cache.get(TimeUnit.DAYS);
+    cache.get(TimeUnit.DAYS);
+    cache.get(TimeUnit.DAYS);
+    assertEquals(3, cache.hitCount());
+    assertEquals(1, cache.missCount());
+    assertEquals(0.75, cache.hitRate(), 0d);
+  }
+
+  @Test
+  public void should_only_cache_values_having_constant_representation() {
+    assertTrue(RepresentationCache.isCacheable(Object.class));
+    assertTrue(RepresentationCache.isCacheable(ElementType.FIELD));
+    assertTrue(RepresentationCache.isCacheable(String.CASE_INSENSITIVE_ORDER));
+    assertTrue(RepresentationCache.isCacheable("Leia"));
+    assertTrue(RepresentationCache.isCacheable(true));
+    assertTrue(RepresentationCache.isCacheable(127));
+    assertTrue(RepresentationCache.isCacheable(-128L));
+    assertTrue(RepresentationCache.isCacheable('a'));
+    assertFalse(RepresentationCache.isCacheable(null));
+    assertFalse(RepresentationCache.isCacheable(128));
+    assertFalse(RepresentationCache.isCacheable(1.0));
+    assertFalse(RepresentationCache.isCacheable(new int[0]));
+  }
+}
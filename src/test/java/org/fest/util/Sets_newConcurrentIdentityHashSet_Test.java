@@ -0,0 +1,44 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Sets#newConcurrentIdentityHashSet()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Sets_newConcurrentIdentityHashSet_Test {
+  @Test
+  public void should_compare_elements_by_identity() {
+    Set<String> set = Sets.newConcurrentIdentityHashSet();
+    String element = new String("Leia");
+    assertTrue(set.add(element));
+    assertFalse(set.add(element));
+    assertTrue(set.add(new String("Leia")));
+    assertEquals(2, set.size());
+    assertTrue(set.contains(element));
+    assertFalse(set.contains("Luke"));
+    assertTrue(set.remove(element));
+    assertEquals(1, set.size());
+  }
+}
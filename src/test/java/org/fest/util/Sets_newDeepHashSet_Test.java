@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Sets#newDeepHashSet()} and {@link Sets#newDeepHashSet(Iterable)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Sets_newDeepHashSet_Test {
+  @Test
+  public void should_consider_arrays_with_equal_elements_to_be_the_same_element() {
+    Set<Object> set = Sets.newDeepHashSet();
+    assertTrue(set.add(new int[]{6, 8}));
+    assertFalse(set.add(new int[]{6, 8}));
+    assertFalse(set.add(new Integer[]{6, 8}));
+    assertTrue(set.add(new int[]{6, 9}));
+    assertTrue(set.add(null));
+    assertEquals(3, set.size());
+    assertTrue(set.contains(new int[]{6, 9}));
+    assertTrue(set.remove(new int[]{6, 9}));
+    assertFalse(set.contains(new int[]{6, 9}));
+  }
+
+  @Test
+  public void should_remove_duplicates_from_given_elements() {
+    Set<Object> set = Sets.newDeepHashSet(asList(new String[]{"Luke"}, new String[]{"Luke"}, "Leia", "Leia"));
+    assertEquals(2, set.size());
+  }
+
+  @Test
+  public void should_grow_and_iterate_over_all_elements() {
+    Set<Object> set = Sets.newDeepHashSet();
+    for (int i = 0; i < 1000; i++) {
+      set.add(new long[]{i});
+    }
+    assertEquals(1000, set.size());
+    int count = 0;
+    for (Iterator<Object> i = set.iterator(); i.hasNext(); ) {
+      i.next();
+      i.remove();
+      count++;
+    }
+    assertEquals(1000, count);
+    assertTrue(set.isEmpty());
+  }
+}
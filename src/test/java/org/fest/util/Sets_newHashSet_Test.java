@@ -0,0 +1,68 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Sets#newHashSet(Iterable)}, {@link Sets#newHashSet(HashingStrategy)} and
+ * {@link Sets#newHashSet(Iterable, HashingStrategy)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Sets_newHashSet_Test {
+  @Test
+  public void should_create_Set_with_elements_of_Collection() {
+    Set<String> set = Sets.newHashSet(asList("Yoda", "Luke", "Yoda"));
+    assertEquals(new HashSet<String>(asList("Yoda", "Luke")), set);
+  }
+
+  @Test
+  public void should_create_Set_with_elements_of_Iterable() {
+    Iterable<String> elements = () -> asList("Yoda", "Luke", "Yoda").iterator();
+    Set<String> set = Sets.newHashSet(elements);
+    assertEquals(new HashSet<String>(asList("Yoda", "Luke")), set);
+  }
+
+  @Test
+  public void should_create_empty_Set_using_given_strategy() {
+    Set<String> set = Sets.newHashSet(HashingStrategies.caseInsensitive());
+    assertTrue(set.isEmpty());
+    set.add("Yoda");
+    set.add("YODA");
+    assertEquals(1, set.size());
+    assertTrue(set.contains("yoda"));
+  }
+
+  @Test
+  public void should_create_Set_with_elements_using_given_strategy() {
+    Set<String> set = Sets.newHashSet(asList("Yoda", "Luke", "yoda", "LUKE", "Leia"),
+        HashingStrategies.caseInsensitive());
+    assertEquals(3, set.size());
+    assertTrue(set.contains("leia"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_strategy_is_null() {
+    Sets.newHashSet((HashingStrategy<Object>) null);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Sets#of(Object[])}.
+ *
+ * @author Alex Ruiz
+ */
+public class Sets_of_Test {
+  @Test
+  public void should_return_Set_with_given_elements_without_duplicates() {
+    Set<String> set = Sets.of("Frodo", "Sam", null, "Frodo", null);
+    assertEquals(3, set.size());
+    assertTrue(set.contains("Frodo"));
+    assertTrue(set.contains("Sam"));
+    assertTrue(set.contains(null));
+    assertFalse(set.contains("Gandalf"));
+    assertEquals(new HashSet<String>(asList("Frodo", "Sam", null)), set);
+    assertEquals(new HashSet<String>(asList("Frodo", "Sam", null)).hashCode(), set.hashCode());
+  }
+
+  @Test
+  public void should_keep_order_of_first_occurrences() {
+    assertArrayEquals(new Object[]{"c", "a", "b"}, Sets.of("c", "a", "c", "b", "a").toArray());
+  }
+
+  @Test
+  public void should_find_many_elements() {
+    Integer[] elements = new Integer[1000];
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = i * 1024;
+    }
+    Set<Integer> set = Sets.of(elements);
+    assertEquals(1000, set.size());
+    for (int i = 0; i < 1024 * 1000; i++) {
+      assertEquals(i % 1024 == 0, set.contains(i));
+    }
+  }
+
+  @Test
+  public void should_return_Object_array() {
+    Object[] array = Sets.of("Frodo", "Sam").toArray();
+    assertEquals(Object[].class, array.getClass());
+    array[0] = 6;
+  }
+
+  @Test
+  public void should_return_empty_Set_if_array_is_empty() {
+    assertTrue(Sets.<String>of().isEmpty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_not_allow_adding_elements() {
+    Sets.of("Frodo").add("Sam");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_not_allow_removing_elements_through_iterator() {
+    Iterator<String> iterator = Sets.of("Frodo").iterator();
+    iterator.next();
+    iterator.remove();
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_array_is_null() {
+    Sets.of((String[]) null);
+  }
+}
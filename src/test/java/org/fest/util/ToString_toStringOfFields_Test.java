@@ -0,0 +1,117 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.ToString.toStringOfFields;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link ToString#toStringOfFields(Object)} and {@link ToString#toStringOfFields(Object, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ToString_toStringOfFields_Test {
+  @Test
+  public void should_return_null_if_object_is_null() {
+    assertNull(toStringOfFields(null));
+  }
+
+  @Test
+  public void should_use_toStringOf_for_types_overriding_toString() {
+    assertEquals("'Leia'", toStringOfFields("Leia"));
+    assertEquals("8L", toStringOfFields(8L));
+  }
+
+  @Test
+  public void should_format_object_field_by_field() {
+    assertEquals("Employee{age=23, company='google', firstJob=false, salary=1000.0}",
+        toStringOfFields(new Employee(1000d, 23)));
+  }
+
+  @Test
+  public void should_format_inherited_fields_first() {
+    assertEquals("Child{name='Luke', parent=null, toys=[], age=5L}", toStringOfFields(new Child("Luke", 5)));
+  }
+
+  @Test
+  public void should_elide_cycles() {
+    Person leia = new Person("Leia");
+    Person luke = new Person("Luke");
+    leia.parent = luke;
+    luke.parent = leia;
+    assertEquals("Person{name='Leia', parent=Person{name='Luke', parent=Person{...}, toys=[]}, toys=[]}",
+        toStringOfFields(leia));
+  }
+
+  @Test
+  public void should_format_elements_of_collections_arrays_and_maps_field_by_field() {
+    Person leia = new Person("Leia");
+    leia.toys.add(new Object[]{new Toy("droid"), new int[]{1, 2}});
+    leia.toys.add(singletonMap("ship", new Toy("x-wing")));
+    assertEquals("Person{name='Leia', parent=null, toys=[[Toy{name='droid'}, [1, 2]], {'ship'=Toy{name='x-wing'}}]}",
+        toStringOfFields(leia));
+  }
+
+  @Test
+  public void should_elide_objects_deeper_than_maximum_depth() {
+    Person leia = new Person("Leia");
+    leia.parent = new Person("Padme");
+    leia.toys.add(new Toy("droid"));
+    assertEquals("Person{name='Leia', parent=Person{...}, toys=[...]}", toStringOfFields(leia, 1));
+    assertEquals("Person{...}", toStringOfFields(leia, 0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_maximum_depth_is_negative() {
+    toStringOfFields("Leia", -1);
+  }
+
+  private static class Person {
+    final String name;
+    Person parent;
+    final List<Object> toys = newArrayList();
+
+    Person(String name) {
+      this.name = name;
+    }
+  }
+
+  private static class Child extends Person {
+    private static final Map<String, String> IGNORED = singletonMap("static", "field");
+
+    final long age;
+
+    Child(String name, long age) {
+      super(name);
+      this.age = age;
+    }
+  }
+
+  private static class Toy {
+    final String name;
+
+    Toy(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -17,6 +17,7 @@ package org.fest.util;
 import org.junit.Test;
 
 import java.io.File;
+import java.time.*;
 import java.util.*;
 
 import static junit.framework.Assert.assertFalse;
@@ -93,6 +94,39 @@ public class ToString_toStringOf_Test {
     assertEquals("{'key1'='value1', 'key2'='value2'}", ToString.toStringOf(map));
   }
 
+  @Test
+  public void should_return_ISO_8601_representation_of_Date() {
+    Date date = new GregorianCalendar(2013, Calendar.JANUARY, 15, 10, 30, 45).getTime();
+    assertEquals("2013-01-15T10:30:45.000", ToString.toStringOf(date));
+  }
+
+  @Test
+  public void should_return_ISO_8601_representation_of_sql_Date() {
+    java.sql.Date date = new java.sql.Date(new GregorianCalendar(2013, Calendar.JANUARY, 15).getTimeInMillis());
+    assertEquals("2013-01-15T00:00:00.000", ToString.toStringOf(date));
+  }
+
+  @Test
+  public void should_return_ISO_8601_representation_of_Calendar_in_its_time_zone() {
+    Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("GMT+01:00"));
+    calendar.clear();
+    calendar.set(2013, Calendar.JANUARY, 15, 10, 30, 45);
+    calendar.set(Calendar.MILLISECOND, 7);
+    assertEquals("2013-01-15T10:30:45.007+01:00", ToString.toStringOf(calendar));
+    calendar.setTimeZone(TimeZone.getTimeZone("UTC"));
+    assertEquals("2013-01-15T09:30:45.007Z", ToString.toStringOf(calendar));
+  }
+
+  @Test
+  public void should_return_ISO_8601_representation_of_java_time_types() {
+    assertEquals("2013-01-15T10:30:00", ToString.toStringOf(LocalDateTime.of(2013, 1, 15, 10, 30)));
+    assertEquals("10:30:00", ToString.toStringOf(LocalTime.of(10, 30)));
+    assertEquals("2013-01-15", ToString.toStringOf(LocalDate.of(2013, 1, 15)));
+    assertEquals("2013-01-15T10:30:00Z", ToString.toStringOf(Instant.parse("2013-01-15T10:30:00Z")));
+    assertEquals("2013-01-15T10:30:00+01:00",
+        ToString.toStringOf(OffsetDateTime.of(2013, 1, 15, 10, 30, 0, 0, ZoneOffset.ofHours(1))));
+  }
+
   @Test
   public void should_return_toString_of_array() {
     assertEquals("['s1', 's2']", ToString.toStringOf(array("s1", "s2")));
@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.fest.util.ToString.toStringOf;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ToString#useRepresentationCache(RepresentationCache)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ToString_useRepresentationCache_Test {
+  @After
+  public void tearDown() {
+    ToString.useRepresentationCache(null);
+  }
+
+  @Test
+  public void should_memoize_representations_of_constant_values() {
+    RepresentationCache cache = RepresentationCache.withCapacity(16);
+    ToString.useRepresentationCache(cache);
+    assertEquals("java.lang.Object", toStringOf(Object.class));
+    assertEquals("java.lang.Object", toStringOf(Object.class));
+    assertEquals("8L", toStringOf(8L));
+    assertEquals("8L", toStringOf(8L));
+    assertEquals(2, cache.hitCount());
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  public void should_not_memoize_values_without_representation() {
+    RepresentationCache cache = RepresentationCache.withCapacity(16);
+    ToString.useRepresentationCache(cache);
+    Comparator<String> anonymous = new Comparator<String>() {
+      @Override
+      public int compare(String s1, String s2) {
+        return 0;
+      }
+    };
+    assertEquals(null, toStringOf(anonymous.getClass()));
+    assertEquals(null, toStringOf(anonymous.getClass()));
+    assertEquals(0, cache.hitCount());
+    assertEquals("'Anonymous Comparator class'", toStringOf(anonymous));
+    assertEquals("'CaseInsensitiveComparator'", toStringOf(CASE_INSENSITIVE_ORDER));
+  }
+
+  @Test
+  public void should_stop_memoizing() {
+    RepresentationCache cache = RepresentationCache.withCapacity(16);
+    ToString.useRepresentationCache(cache);
+    ToString.useRepresentationCache(null);
+    assertEquals("java.lang.Object", toStringOf(Object.class));
+    assertEquals(0, cache.missCount());
+  }
+}
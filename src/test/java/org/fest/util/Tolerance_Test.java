@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link Tolerance}.
+ *
+ * @author Alex Ruiz
+ */
+public class Tolerance_Test {
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_absolute_tolerance_is_negative() {
+    Tolerance.absolute(-0.1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_relative_tolerance_is_NaN() {
+    Tolerance.relative(Double.NaN);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_absolute_tolerance_is_infinite() {
+    Tolerance.absolute(Double.POSITIVE_INFINITY);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_relative_tolerance_is_infinite() {
+    Tolerance.relative(Double.POSITIVE_INFINITY);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_number_of_ulps_is_negative() {
+    Tolerance.ulps(-1);
+  }
+
+  @Test
+  public void should_implement_equals_and_hashCode() {
+    assertEquals(Tolerance.absolute(0.5), Tolerance.absolute(0.5));
+    assertEquals(Tolerance.absolute(0.5).hashCode(), Tolerance.absolute(0.5).hashCode());
+    assertFalse(Tolerance.absolute(0.5).equals(Tolerance.relative(0.5)));
+    assertFalse(Tolerance.ulps(2).equals(Tolerance.ulps(3)));
+  }
+
+  @Test
+  public void should_implement_toString() {
+    assertEquals("absolute tolerance <0.5>", Tolerance.absolute(0.5).toString());
+    assertEquals("relative tolerance <0.01>", Tolerance.relative(0.01).toString());
+    assertEquals("tolerance of <4> ULPs", Tolerance.ulps(4).toString());
+  }
+}
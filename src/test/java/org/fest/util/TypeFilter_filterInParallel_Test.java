@@ -0,0 +1,50 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link TypeFilter#filterInParallel(java.util.Collection)}.
+ *
+ * @author Alex Ruiz
+ */
+public class TypeFilter_filterInParallel_Test {
+  @Test
+  public void should_filter_Collection_keeping_order() {
+    List<Object> original = new ArrayList<Object>();
+    List<String> expected = new ArrayList<String>();
+    for (int i = 0; i < 10000; i++) {
+      if (i % 3 == 0) {
+        original.add(i);
+      } else {
+        String s = String.valueOf(i);
+        original.add(s);
+        expected.add(s);
+      }
+    }
+    assertEquals(expected, TypeFilter.byType(String.class).filterInParallel(original));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_Collection_is_null() {
+    TypeFilter.byType(String.class).filterInParallel(null);
+  }
+}
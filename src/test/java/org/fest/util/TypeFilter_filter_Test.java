@@ -17,12 +17,16 @@ package org.fest.util;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 
 /**
- * Tests for {@link TypeFilter#filter(java.util.Collection)}.
+ * Tests for {@link TypeFilter#filter(java.util.Collection)}, {@link TypeFilter#filter(Iterable)} and
+ * {@link TypeFilter#filter(Stream)}.
  *
  * @author Yvonne Wang
  */
@@ -37,4 +41,28 @@ public class TypeFilter_filter_Test {
     assertEquals(1, filtered.size());
     assertEquals("Frodo", filtered.get(0));
   }
+
+  @Test
+  public void should_filter_by_supertype() {
+    List<Object> original = asList(1, "Frodo", 2L, null, 3.0);
+    assertEquals(asList(1, 2L, 3.0), TypeFilter.byType(Number.class).filter(original));
+  }
+
+  @Test
+  public void should_filter_Iterable_in_one_pass() {
+    Iterator<Object> elements = asList((Object) 1, "Frodo", "Sam").iterator();
+    Iterable<Object> original = () -> elements;
+    assertEquals(asList("Frodo", "Sam"), TypeFilter.byType(String.class).filter(original));
+  }
+
+  @Test
+  public void should_filter_Stream_keeping_order() {
+    Stream<Object> original = Stream.of(1, "Frodo", 5, "Sam", null);
+    assertEquals(asList("Frodo", "Sam"), TypeFilter.byType(String.class).filter(original));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_Iterable_is_null() {
+    TypeFilter.byType(String.class).filter((Iterable<?>) null);
+  }
 }
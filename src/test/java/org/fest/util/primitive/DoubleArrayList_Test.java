@@ -0,0 +1,52 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.junit.Test;
+
+import static org.fest.util.primitive.PrimitiveCollections.newDoubleArrayList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DoubleArrayList}.
+ *
+ * @author Alex Ruiz
+ */
+public class DoubleArrayList_Test {
+  @Test
+  public void should_add_elements() {
+    DoubleArrayList list = newDoubleArrayList(1.5);
+    list.addAll(2.5, 3.5);
+    assertArrayEquals(new double[]{1.5, 2.5, 3.5}, list.toArray(), 0.0);
+  }
+
+  @Test
+  public void should_compare_elements_by_their_bits() {
+    DoubleArrayList list = newDoubleArrayList(Double.NaN, 0.0);
+    assertTrue(list.contains(Double.NaN));
+    assertEquals(-1, list.indexOf(-0.0));
+    assertEquals(newDoubleArrayList(Double.NaN, 0.0), list);
+    assertFalse(list.equals(newDoubleArrayList(Double.NaN, -0.0)));
+    assertEquals(java.util.Arrays.hashCode(new double[]{Double.NaN, 0.0}), list.hashCode());
+  }
+
+  @Test
+  public void should_format_like_double_array() {
+    assertEquals("[1.0, 2.5]", newDoubleArrayList(1.0, 2.5).toString());
+  }
+}
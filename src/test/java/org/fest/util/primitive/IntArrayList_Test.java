@@ -0,0 +1,117 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.fest.util.primitive.PrimitiveCollections.newIntArrayList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link IntArrayList}.
+ *
+ * @author Alex Ruiz
+ */
+public class IntArrayList_Test {
+  @Test
+  public void should_add_elements_growing_as_needed() {
+    IntArrayList list = new IntArrayList();
+    for (int i = 0; i < 100; i++) {
+      list.add(i);
+    }
+    assertEquals(100, list.size());
+    assertEquals(0, list.get(0));
+    assertEquals(99, list.get(99));
+  }
+
+  @Test
+  public void should_add_all_elements() {
+    IntArrayList list = newIntArrayList(1, 2);
+    list.addAll(3, 4, 5);
+    assertArrayEquals(new int[]{1, 2, 3, 4, 5}, list.toArray());
+  }
+
+  @Test
+  public void should_set_element() {
+    IntArrayList list = newIntArrayList(1, 2, 3);
+    assertEquals(2, list.set(1, 8));
+    assertArrayEquals(new int[]{1, 8, 3}, list.toArray());
+  }
+
+  @Test
+  public void should_remove_element_at_index() {
+    IntArrayList list = newIntArrayList(1, 2, 3);
+    assertEquals(2, list.removeAt(1));
+    assertArrayEquals(new int[]{1, 3}, list.toArray());
+  }
+
+  @Test
+  public void should_find_elements() {
+    IntArrayList list = newIntArrayList(6, 8, 6);
+    assertEquals(0, list.indexOf(6));
+    assertEquals(-1, list.indexOf(7));
+    assertTrue(list.contains(8));
+    assertFalse(list.contains(7));
+  }
+
+  @Test
+  public void should_visit_elements_in_order() {
+    final List<Integer> visited = new ArrayList<Integer>();
+    newIntArrayList(3, 1, 2).forEach(visited::add);
+    assertEquals(java.util.Arrays.asList(3, 1, 2), visited);
+  }
+
+  @Test
+  public void should_clear_elements() {
+    IntArrayList list = newIntArrayList(1, 2, 3);
+    list.clear();
+    assertTrue(list.isEmpty());
+    assertEquals(0, list.toArray().length);
+  }
+
+  @Test
+  public void should_be_equal_to_list_with_same_elements() {
+    IntArrayList list = new IntArrayList(10);
+    list.addAll(1, 2, 3);
+    assertEquals(newIntArrayList(1, 2, 3), list);
+    assertEquals(java.util.Arrays.hashCode(new int[]{1, 2, 3}), list.hashCode());
+    assertFalse(list.equals(newIntArrayList(1, 2)));
+    assertFalse(list.equals(newIntArrayList(1, 3, 2)));
+  }
+
+  @Test
+  public void should_format_like_int_array() {
+    assertEquals("[1, 2, 3]", newIntArrayList(1, 2, 3).toString());
+    assertEquals("[]", new IntArrayList().toString());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void should_throw_error_if_index_is_out_of_bounds() {
+    IntArrayList list = new IntArrayList(10);
+    list.add(1);
+    list.get(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_initial_capacity_is_negative() {
+    new IntArrayList(-1);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.fest.util.primitive.PrimitiveCollections.newIntHashSet;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link IntHashSet}.
+ *
+ * @author Alex Ruiz
+ */
+public class IntHashSet_Test {
+  @Test
+  public void should_add_elements_only_once() {
+    IntHashSet set = new IntHashSet();
+    assertTrue(set.add(6));
+    assertFalse(set.add(6));
+    assertTrue(set.add(0));
+    assertFalse(set.add(0));
+    assertEquals(2, set.size());
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(6));
+    assertFalse(set.contains(8));
+  }
+
+  @Test
+  public void should_behave_like_HashSet_when_adding_and_removing_many_elements() {
+    IntHashSet set = new IntHashSet();
+    Set<Integer> expected = new HashSet<Integer>();
+    for (int i = -1000; i < 1000; i++) {
+      int element = i * 16;
+      assertEquals(expected.add(element), set.add(element));
+    }
+    for (int i = -1000; i < 1000; i += 3) {
+      int element = i * 16;
+      assertEquals(expected.remove(element), set.remove(element));
+    }
+    assertEquals(expected.size(), set.size());
+    for (int i = -16000; i < 16000; i++) {
+      assertEquals(expected.contains(i), set.contains(i));
+    }
+    assertEquals(expected.hashCode(), set.hashCode());
+  }
+
+  @Test
+  public void should_return_elements_as_array() {
+    int[] elements = newIntHashSet(3, 0, 1, 3).toArray();
+    java.util.Arrays.sort(elements);
+    assertArrayEquals(new int[]{0, 1, 3}, elements);
+  }
+
+  @Test
+  public void should_visit_each_element() {
+    final Set<Integer> visited = new HashSet<Integer>();
+    newIntHashSet(3, 0, 1).forEach(visited::add);
+    assertEquals(new HashSet<Integer>(java.util.Arrays.asList(0, 1, 3)), visited);
+  }
+
+  @Test
+  public void should_clear_elements() {
+    IntHashSet set = newIntHashSet(0, 1, 2);
+    set.clear();
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(0));
+    assertFalse(set.contains(1));
+  }
+
+  @Test
+  public void should_be_equal_to_set_with_same_elements() {
+    assertEquals(newIntHashSet(1, 2, 0), newIntHashSet(0, 2, 1));
+    assertFalse(newIntHashSet(0, 2).equals(newIntHashSet(1, 2)));
+  }
+
+  @Test
+  public void should_format_like_int_array() {
+    assertEquals("[8]", newIntHashSet(8).toString());
+    assertEquals("[]", new IntHashSet().toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_expected_size_is_negative() {
+    new IntHashSet(-1);
+  }
+}
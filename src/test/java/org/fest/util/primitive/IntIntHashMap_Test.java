@@ -0,0 +1,124 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.fest.util.primitive.PrimitiveCollections.newIntIntHashMap;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link IntIntHashMap}.
+ *
+ * @author Alex Ruiz
+ */
+public class IntIntHashMap_Test {
+  @Test
+  public void should_put_and_get_values() {
+    IntIntHashMap map = newIntIntHashMap();
+    assertEquals(0, map.put(6, 8));
+    assertEquals(8, map.put(6, 10));
+    assertEquals(0, map.put(0, 1));
+    assertEquals(10, map.get(6));
+    assertEquals(1, map.get(0));
+    assertEquals(0, map.get(7));
+    assertEquals(-1, map.getOrDefault(7, -1));
+    assertTrue(map.containsKey(0));
+    assertFalse(map.containsKey(7));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void should_add_to_values() {
+    IntIntHashMap map = newIntIntHashMap();
+    for (int i = 0; i < 10; i++) {
+      map.addTo(i % 3, 1);
+    }
+    assertEquals(4, map.get(0));
+    assertEquals(3, map.get(1));
+    assertEquals(3, map.get(2));
+  }
+
+  @Test
+  public void should_behave_like_HashMap_when_putting_and_removing_many_entries() {
+    IntIntHashMap map = new IntIntHashMap();
+    Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+    for (int i = -1000; i < 1000; i++) {
+      map.put(i * 64, i);
+      expected.put(i * 64, i);
+    }
+    for (int i = -1000; i < 1000; i += 3) {
+      Integer removed = expected.remove(i * 64);
+      assertEquals(removed == null ? 0 : removed, map.remove(i * 64));
+    }
+    assertEquals(expected.size(), map.size());
+    for (int i = -1000; i < 1000; i++) {
+      assertEquals(expected.containsKey(i * 64), map.containsKey(i * 64));
+      assertEquals(expected.containsKey(i * 64) ? i : 0, map.get(i * 64));
+    }
+    assertEquals(expected.hashCode(), map.hashCode());
+    final Map<Integer, Integer> visited = new HashMap<Integer, Integer>();
+    map.forEach(visited::put);
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  public void should_return_keys() {
+    IntIntHashMap map = newIntIntHashMap();
+    map.put(3, 1);
+    map.put(0, 2);
+    int[] keys = map.keys();
+    java.util.Arrays.sort(keys);
+    assertArrayEquals(new int[]{0, 3}, keys);
+  }
+
+  @Test
+  public void should_be_equal_to_map_with_same_entries() {
+    IntIntHashMap map1 = newIntIntHashMap();
+    map1.put(1, 2);
+    map1.put(0, 3);
+    IntIntHashMap map2 = new IntIntHashMap(10);
+    map2.put(0, 3);
+    map2.put(1, 2);
+    assertEquals(map1, map2);
+    map2.put(1, 4);
+    assertFalse(map2.equals(map1));
+  }
+
+  @Test
+  public void should_format_like_Map() {
+    IntIntHashMap map = newIntIntHashMap();
+    assertEquals("{}", map.toString());
+    map.put(1, 2);
+    assertEquals("{1=2}", map.toString());
+  }
+
+  @Test
+  public void should_clear_entries() {
+    IntIntHashMap map = newIntIntHashMap();
+    map.put(0, 1);
+    map.put(1, 1);
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertFalse(map.containsKey(0));
+    assertEquals(0, map.get(1));
+  }
+}
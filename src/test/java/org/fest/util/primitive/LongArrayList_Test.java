@@ -0,0 +1,51 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.junit.Test;
+
+import static org.fest.util.primitive.PrimitiveCollections.newLongArrayList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link LongArrayList}.
+ *
+ * @author Alex Ruiz
+ */
+public class LongArrayList_Test {
+  @Test
+  public void should_add_and_remove_elements() {
+    LongArrayList list = newLongArrayList(1L, Long.MAX_VALUE);
+    list.add(3L);
+    assertEquals(Long.MAX_VALUE, list.removeAt(1));
+    assertArrayEquals(new long[]{1L, 3L}, list.toArray());
+    assertEquals(1, list.indexOf(3L));
+  }
+
+  @Test
+  public void should_be_equal_to_list_with_same_elements() {
+    LongArrayList list = newLongArrayList(1L, 2L, 1L << 40);
+    assertEquals(newLongArrayList(1L, 2L, 1L << 40), list);
+    assertEquals(java.util.Arrays.hashCode(new long[]{1L, 2L, 1L << 40}), list.hashCode());
+    assertFalse(list.equals(newLongArrayList(1L, 2L, 1L << 41)));
+  }
+
+  @Test
+  public void should_format_like_long_array() {
+    assertEquals("[1L, 2L]", newLongArrayList(1L, 2L).toString());
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 19, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.util.primitive;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.fest.util.primitive.PrimitiveCollections.newLongHashSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link LongHashSet}.
+ *
+ * @author Alex Ruiz
+ */
+public class LongHashSet_Test {
+  @Test
+  public void should_behave_like_HashSet_when_adding_and_removing_many_elements() {
+    LongHashSet set = new LongHashSet();
+    Set<Long> expected = new HashSet<Long>();
+    for (long i = -1000; i < 1000; i++) {
+      long element = i << 32;
+      assertEquals(expected.add(element), set.add(element));
+    }
+    for (long i = -1000; i < 1000; i += 3) {
+      long element = i << 32;
+      assertEquals(expected.remove(element), set.remove(element));
+    }
+    assertEquals(expected.size(), set.size());
+    for (long i = -1000; i < 1000; i++) {
+      assertEquals(expected.contains(i << 32), set.contains(i << 32));
+    }
+    assertEquals(expected.hashCode(), set.hashCode());
+  }
+
+  @Test
+  public void should_contain_zero_and_min_value() {
+    LongHashSet set = newLongHashSet(0L, Long.MIN_VALUE);
+    assertTrue(set.contains(0L));
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertTrue(set.remove(0L));
+    assertFalse(set.contains(0L));
+    assertEquals("[" + Long.MIN_VALUE + "L]", set.toString());
+  }
+}